@@ -0,0 +1,35 @@
+package com.board.jobseeker;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/// Refuses to start an AOT-processed build (the -PfastStart build, see build.gradle) with settings it was not processed for 
+///     AOT evaluates @Conditional... once at build time, so a fast-start jar built for the default profile has no Flyway 
+///     and no shard routing; running it with the "durable" profile or several shards would start without a schema 
+///     (spring.sql.init is off there) or on a single database, instead of failing 
+@Component
+class AotSettingsCheck {
+
+    AotSettingsCheck(Environment environment, ObjectProvider<Flyway> flyway, DataSource dataSource) {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return; 
+        }
+
+        boolean flywayEnabled = environment.getProperty("spring.flyway.enabled", Boolean.class, false); 
+        if (flywayEnabled != (flyway.getIfAvailable() != null)) {
+            throw new IllegalStateException("spring.flyway.enabled=" + flywayEnabled + " does not match the profiles this fast-start build "
+                    + "was processed with, rebuild with the same profiles, e.g. './gradlew -PfastStart -PfastStartProfiles=durable ...'"); 
+        }
+
+        boolean sharded = environment.getProperty("jobseeker.shards.count", Integer.class, 1) > 1; 
+        if (sharded != (dataSource instanceof ShardRoutingDataSource)) {
+            throw new IllegalStateException("jobseeker.shards.count does not match the setting this fast-start build was processed with, "
+                    + "rebuild with the same value (set in a profile listed in -PfastStartProfiles)"); 
+        }
+    }
+}
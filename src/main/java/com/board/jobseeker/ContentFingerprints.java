@@ -0,0 +1,71 @@
+package com.board.jobseeker;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/// Registry of the content fingerprints of every shard's job entries, kept in CONTENT_FINGERPRINT on shard 0 
+///     CONTENT_HASH is only unique within one shard's JOB_ENTRY, so with several shards a posting claims its fingerprint here 
+///     (primary key insert) before its row is written; a concurrent duplicate on another shard fails on that key 
+///     a claim has no JOB_ID until the row exists, claims left without one by a crash are cleared on startup 
+///     only used with more than one shard, a single database relies on its JOB_ENTRY unique index 
+class ContentFingerprints {
+
+    private final JdbcTemplate jdbcTemplate; 
+
+    ContentFingerprints(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate; 
+    }
+
+    // jobID of the posting with this fingerprint, null if there is none (or its insert is still in progress) 
+    Long find(byte[] contentHash) {
+        List<Long> jobIDs = jdbcTemplate.queryForList("SELECT JOB_ID FROM CONTENT_FINGERPRINT WHERE CONTENT_HASH = ?", Long.class, contentHash); 
+        return jobIDs.isEmpty() ? null : jobIDs.get(0); 
+    }
+
+    // throws DuplicateKeyException if another posting already holds the fingerprint 
+    void claim(byte[] contentHash, Long jobID) {
+        jdbcTemplate.update("INSERT INTO CONTENT_FINGERPRINT (CONTENT_HASH, JOB_ID) VALUES (?, ?)", contentHash, jobID); 
+    }
+
+    // records the jobID of a claim once the new row has been inserted 
+    void assign(byte[] contentHash, long jobID) {
+        jdbcTemplate.update("UPDATE CONTENT_FINGERPRINT SET JOB_ID = ? WHERE CONTENT_HASH = ?", jobID, contentHash); 
+    }
+
+    void release(byte[] contentHash) {
+        jdbcTemplate.update("DELETE FROM CONTENT_FINGERPRINT WHERE CONTENT_HASH = ?", contentHash); 
+    }
+
+    // backed by the (JOB_ID) index 
+    void releaseJob(long jobID) {
+        jdbcTemplate.update("DELETE FROM CONTENT_FINGERPRINT WHERE JOB_ID = ?", jobID); 
+    }
+
+    /// drops unfinished claims, then rebuilds the registry from every shard's rows if it does not cover them 
+    /// (e.g. an existing single database that became shard 0), nothing is copied while the counts already agree 
+    /// runs at startup only, before any request can claim a fingerprint 
+    void rebuild(List<JdbcTemplate> shards) {
+        jdbcTemplate.update("DELETE FROM CONTENT_FINGERPRINT WHERE JOB_ID IS NULL"); 
+
+        long rows = 0; 
+        for (JdbcTemplate shard : shards) {
+            rows += count(shard, "JOB_ENTRY"); 
+        }
+        if (count(jdbcTemplate, "CONTENT_FINGERPRINT") == rows) {
+            return; 
+        }
+
+        jdbcTemplate.update("DELETE FROM CONTENT_FINGERPRINT"); 
+        for (JdbcTemplate shard : shards) {
+            List<Object[]> fingerprints = shard.query("SELECT CONTENT_HASH, JOB_ID FROM JOB_ENTRY", 
+                    (resultSet, rowNum) -> new Object[] {resultSet.getBytes("CONTENT_HASH"), resultSet.getLong("JOB_ID")}); 
+            jdbcTemplate.batchUpdate("MERGE INTO CONTENT_FINGERPRINT (CONTENT_HASH, JOB_ID) KEY (CONTENT_HASH) VALUES (?, ?)", fingerprints); 
+        }
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class); 
+        return (count != null) ? count : 0; 
+    }
+}
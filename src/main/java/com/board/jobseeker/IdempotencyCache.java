@@ -0,0 +1,96 @@
+package com.board.jobseeker;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/// Bounded, expiring cache of responses to POST requests carrying an Idempotency-Key header
+///     keys are scoped per user, so two users reusing the same key never see each other's responses
+///     entries are kept in insertion order with one fixed time-to-live, so the oldest entry is always the next to expire
+///     expiry only ever removes from the head of the map, the size bound removes the oldest completed entry
+///     an entry still in progress is never evicted, its retries would otherwise run the request a second time
+@Component
+class IdempotencyCache {
+
+    /// request - body of the first request made with the key, a retry must send the same body
+    /// location - location of the created job entry, null while the first request is still being processed
+    record Entry(JobEntry request, URI location, long expiresAt) {
+
+        boolean inProgress() {
+            return location == null;
+        }
+    }
+
+    // returned by begin() when every slot holds a request still in progress, the caller must not run the request
+    static final Entry FULL = new Entry(null, null, 0);
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    IdempotencyCache(
+            @Value("${jobseeker.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${jobseeker.idempotency.ttl-ms:86400000}") long timeToLiveMillis) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    /// claims the key for a new request
+    /// returns:
+    ///     null - the key was unused (or expired), the caller must finish with complete() or release()
+    ///     entry - the key was already used, either finished (replay its location) or still in progress
+    ///     FULL - the cache is full of requests still in progress, nothing was claimed
+    synchronized Entry begin(String owner, String key, JobEntry request) {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        String cacheKey = owner + ":" + key;
+        Entry previous = entries.get(cacheKey);
+        if (previous != null) {
+            return previous;
+        }
+
+        if (entries.size() >= maxEntries && !evictOldestCompleted()) {
+            return FULL;
+        }
+        entries.put(cacheKey, new Entry(request, null, now + timeToLiveMillis));
+        return null;
+    }
+
+    // stores the outcome so retries with the same key get the same response
+    synchronized void complete(String owner, String key, URI location) {
+        entries.computeIfPresent(owner + ":" + key, (cacheKey, entry) -> new Entry(entry.request(), location, entry.expiresAt()));
+    }
+
+    // forgets a claimed key whose request failed, so the client can retry it
+    synchronized void release(String owner, String key) {
+        entries.remove(owner + ":" + key);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    // in-progress entries are bounded by the requests being served, so this only skips a few of them
+    private boolean evictOldestCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().inProgress()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && iterator.next().getValue().expiresAt() <= now) {
+            iterator.remove();
+        }
+    }
+}
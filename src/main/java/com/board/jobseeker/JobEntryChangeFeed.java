@@ -0,0 +1,252 @@
+package com.board.jobseeker;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/// Publishes job entry changes to Server-Sent Events subscribers
+///     writers (JobEntryController) only append to the ring buffer and schedule a dispatch, they never block on clients
+///     a single dispatcher thread wakes the subscribers, each subscriber is then drained by its own virtual thread,
+///     so a client that stops reading only blocks its own writes and never the other subscribers
+///     subscribers that fall a full ring behind, whose write stalls longer than the send timeout, or whose connection fails 
+///     are dropped, they can resume with Last-Event-ID
+@Component
+class JobEntryChangeFeed {
+
+    private final JobEntryEventRing ring;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // wakes subscribers, sends heartbeats and drops stalled subscribers, never writes to a connection itself
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-entry-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // blocking servlet writes run here, a virtual thread per draining subscriber is cheap even for tens of thousands of them
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-entry-feed-sender-", 0).factory());
+
+    // coalesces bursts of writes into a single dispatch pass
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+
+    JobEntryChangeFeed(
+            @Value("${jobseeker.feed.capacity:4096}") int capacity,
+            @Value("${jobseeker.feed.timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${jobseeker.feed.heartbeat-ms:15000}") long heartbeatMillis,
+            @Value("${jobseeker.feed.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.ring = new JobEntryEventRing(capacity);
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+
+        // idle connections get a periodic comment line so dead clients are detected and proxies keep the stream open
+        dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        // a write that has not returned within the send timeout means the client stopped reading (full TCP window)
+        long checkMillis = Math.max(10, sendTimeoutMillis / 4);
+        dispatcher.scheduleWithFixedDelay(this::dropStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // records a change and wakes the dispatcher, safe to call from any request thread
+    void publish(JobEntryEvent.Type type, Long jobID, JobEntry entry) {
+        ring.publish(type, jobID, entry);
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    /// registers a new subscriber
+    ///     lastEventID - value of the Last-Event-ID header, null for a fresh subscription (only new events are sent)
+    ///     if the requested event is no longer in the ring, a "reset" event tells the client to re-fetch the board
+    SseEmitter subscribe(String lastEventID) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        long head = ring.head();
+        long cursor = head;
+        boolean reset = false;
+
+        if (lastEventID != null) {
+            try {
+                long resumeFrom = Long.parseLong(lastEventID.trim()) + 1;
+                if (resumeFrom < head && ring.isOverwritten(resumeFrom)) {
+                    reset = true;
+                }
+                else if (resumeFrom <= head) {
+                    cursor = resumeFrom;
+                }
+            } catch (NumberFormatException e) {
+                // unknown id format, treat as a fresh subscription
+            }
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, cursor, reset);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // send the reset and replay anything between the resume point and now, including events published while registering
+        if (subscriber.hasPending(ring.head())) {
+            wake(subscriber);
+        }
+        return emitter;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void dispatch() {
+        dispatchPending.set(false);
+        for (Subscriber subscriber : subscribers) {
+            wake(subscriber);
+        }
+    }
+
+    // hands the subscriber to a sender thread, unless one is already draining it
+    private void wake(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    // runs on the subscriber's sender thread, the only thread touching its emitter and cursor until 'sending' is released
+    private void drain(Subscriber subscriber) {
+        do {
+            if (!send(subscriber)) {
+                return;
+            }
+            subscriber.sending.set(false);
+            // re-check after releasing, anything published in between would otherwise wait for the next event
+        } while (subscriber.hasPending(ring.head()) && subscriber.sending.compareAndSet(false, true));
+    }
+
+    // writes everything pending, returns false if the subscriber was dropped
+    private boolean send(Subscriber subscriber) {
+        try {
+            if (subscriber.resetPending) {
+                subscriber.resetPending = false;
+                write(subscriber, SseEmitter.event().id(String.valueOf(subscriber.cursor - 1)).name("reset").data(""));
+            }
+
+            while (true) {
+                JobEntryEvent event = ring.get(subscriber.cursor);
+                if (event == null) {
+                    if (ring.isOverwritten(subscriber.cursor)) {
+                        // too slow to keep up, drop instead of holding back writers; client resumes via Last-Event-ID
+                        drop(subscriber, null);
+                        return false;
+                    }
+                    break;
+                }
+
+                write(subscriber, SseEmitter.event()
+                        .id(String.valueOf(event.sequence()))
+                        .name(event.type().name().toLowerCase())
+                        .data(event, MediaType.APPLICATION_JSON));
+                subscriber.cursor++;
+                subscriber.heartbeatPending = false;
+            }
+
+            if (subscriber.heartbeatPending) {
+                subscriber.heartbeatPending = false;
+                write(subscriber, SseEmitter.event().comment("keepalive"));
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // connection closed by the client or emitter already completed
+            drop(subscriber, e);
+            return false;
+        }
+    }
+
+    // stamps every write, so dropStalled can tell a stuck write from an idle subscriber
+    private static void write(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.writeStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.writeStartedAt = 0;
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending = true;
+            wake(subscriber);
+        }
+    }
+
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long writeStartedAt = subscriber.writeStartedAt;
+            if (writeStartedAt != 0 && now - writeStartedAt > sendTimeoutNanos) {
+                drop(subscriber, new TimeoutException("event stream write stalled"));
+            }
+        }
+    }
+
+    // may race between the sender and the dispatcher, only the first caller completes the emitter
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        if (cause != null) {
+            subscriber.emitter.completeWithError(cause);
+        }
+        else {
+            subscriber.emitter.complete();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    // cursor and resetPending are only touched by the thread holding 'sending' (handed over through that flag)
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private long cursor;
+        private boolean resetPending;
+        private volatile boolean heartbeatPending;
+        private volatile long writeStartedAt;
+
+        private Subscriber(SseEmitter emitter, long cursor, boolean resetPending) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resetPending = resetPending;
+        }
+
+        private boolean hasPending(long head) {
+            return resetPending || heartbeatPending || cursor < head;
+        }
+    }
+}
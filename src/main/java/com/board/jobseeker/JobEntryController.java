@@ -1,6 +1,10 @@
 package com.board.jobseeker;
 
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 
@@ -9,12 +13,15 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
@@ -44,22 +51,39 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 @RequestMapping("/jobseeker") // HTTP requests mapped to this are directed to this controller  
 public class JobEntryController {
 
-    // inject repository to manage JobEntry data 
+    // inject store to manage JobEntry data (JobEntryRepository underneath, with dictionary-encoded columns) 
     // actual SQL stored in ~src/main/resources/schema.sql  
-    private final JobEntryRepository jobEntryRepository; 
+    private final JobEntryStore jobEntryStore; 
 
-    private JobEntryController(JobEntryRepository jobEntryRepository) {
-        this.jobEntryRepository = jobEntryRepository; 
+    // change feed that pushes created/updated/deleted job entries to SSE subscribers 
+    private final JobEntryChangeFeed changeFeed; 
+
+    // matches created/updated job entries against users' saved searches, drops alerts of deleted ones 
+    private final SavedSearchAlerts savedSearchAlerts; 
+
+    // remembers responses to POST requests sent with an Idempotency-Key header 
+    private final IdempotencyCache idempotencyCache; 
+
+    // the feed is injected as a @Lazy proxy, so with lazy initialization it is only created on first use 
+    private JobEntryController(JobEntryStore jobEntryStore, @Lazy JobEntryChangeFeed changeFeed, SavedSearchAlerts savedSearchAlerts, IdempotencyCache idempotencyCache) {
+        this.jobEntryStore = jobEntryStore; 
+        this.changeFeed = changeFeed; 
+        this.savedSearchAlerts = savedSearchAlerts; 
+        this.idempotencyCache = idempotencyCache; 
     }
 
     /// Request Type : GET 
     ///     handles GET requests mapped to /jobseeker, with default sort of jobID in ascending order
     /// returns: 
     ///     status - HTTP "200 OK"
+    ///              HTTP "400 BAD_REQUEST" if sorted by something that is not a job entry field 
     ///     response body - list of job entry data with pagination 
     @GetMapping
     private ResponseEntity<List<JobEntry>> findAll(Pageable pageable) {
-        Page<JobEntry> page = jobEntryRepository.findAll(
+        if (!JobEntryStore.isSortable(pageable.getSort())) {
+            return ResponseEntity.badRequest().build(); 
+        }
+        Page<JobEntry> page = jobEntryStore.findAll(
                 PageRequest.of(
                     pageable.getPageNumber(), 
                     pageable.getPageSize(),
@@ -69,21 +93,122 @@ public class JobEntryController {
         return ResponseEntity.ok(page.getContent());
     }
 
+    /// Request Type : GET 
+    ///     handles GET requests mapped to /jobseeker/mine, listing only the job entries owned by the requesting user
+    ///     uses keyset pagination: pass the last jobID of the previous page as 'after' instead of a page number 
+    ///     only sorting by jobID is supported (default ascending), e.g. /jobseeker/mine?after=20&size=10&sort=jobID,desc
+    /// returns: 
+    ///     status - HTTP "200 OK"
+    ///     response body - list of the owner's job entries following the cursor 
+    @GetMapping("/mine")
+    private ResponseEntity<List<JobEntry>> findMine(@RequestParam(required = false) Long after, Pageable pageable, Principal principal) {
+        Sort.Order order = pageable.getSort().getOrderFor("jobID"); 
+        Sort.Direction direction = (order != null) ? order.getDirection() : Sort.Direction.ASC; 
+
+        // page number is ignored, the cursor replaces the OFFSET so deep pages cost the same as the first 
+        List<JobEntry> page = jobEntryStore.findByOwnerAfter(principal.getName(), after, direction, pageable.getPageSize()); 
+
+        return ResponseEntity.ok(page);
+    }
+
+    /// Request Type : GET (Server-Sent Events)
+    ///     handles GET requests mapped to /jobseeker/feed, streaming "created", "updated" and "deleted" events as they happen 
+    ///     clients reconnecting with the Last-Event-ID header receive the events they missed, if still buffered 
+    /// returns: 
+    ///     status - HTTP "200 OK"
+    ///     response body - text/event-stream of job entry events 
+    @GetMapping(path = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    private SseEmitter streamChanges(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventID) {
+        return changeFeed.subscribe(lastEventID); 
+    }
+
     /// Request Type : POST 
     ///     handles POST requests mapped to /jobseeker, created job entry's ownership goes to user who posted it 
+    ///     an optional Idempotency-Key header makes retries safe: repeating the same body with the same key replays the first response 
     /// returns: 
     ///     status - HTTP "201 CREATED"
+    ///              HTTP "409 CONFLICT" if an identical posting already exists (location header points to it) 
+    ///                   or if a request with the same Idempotency-Key is still being processed 
+    ///              HTTP "422 UNPROCESSABLE_ENTITY" if the Idempotency-Key was already used with a different body 
+    ///              HTTP "503 SERVICE_UNAVAILABLE" if every remembered Idempotency-Key belongs to a request still being processed 
     ///     response body - location header field of resource created 
     @PostMapping
-    private ResponseEntity<Void> createJobEntry(@RequestBody JobEntry createdEntry, UriComponentsBuilder ucb, Principal principal) { 
-        JobEntry jobEntry_withOwner = new JobEntry(createdEntry.jobName(), createdEntry.companyName(), createdEntry.postDate(), createdEntry.closeDate(), createdEntry.jobLocation(), createdEntry.jobDuration(), createdEntry.jobType(), createdEntry.jobPay(), createdEntry.jobLink(), null, principal.getName()); 
-        JobEntry postedEntry = jobEntryRepository.save(jobEntry_withOwner); 
+    private ResponseEntity<Void> createJobEntry(@RequestBody JobEntry createdEntry, @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey, 
+                                                UriComponentsBuilder ucb, Principal principal) { 
+        if (idempotencyKey != null) {
+            IdempotencyCache.Entry previous = idempotencyCache.begin(principal.getName(), idempotencyKey, createdEntry); 
+            if (previous == IdempotencyCache.FULL) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build(); 
+            }
+            if (previous != null) {
+                if (!previous.request().equals(createdEntry)) {
+                    return ResponseEntity.unprocessableEntity().build(); 
+                }
+                if (previous.inProgress()) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build(); 
+                }
+                return ResponseEntity.created(previous.location()).build(); 
+            }
+        }
+
+        URI postLocation = null; 
+        try {
+            // one lookup on the unique content index, the index itself still guards against concurrent inserts 
+            Long duplicateID = jobEntryStore.findJobIDByContent(createdEntry); 
+            if (duplicateID != null) {
+                return conflictWith(duplicateID, ucb); 
+            }
+
+            JobEntry jobEntry_withOwner = new JobEntry(createdEntry.jobName(), createdEntry.companyName(), createdEntry.postDate(), createdEntry.closeDate(), createdEntry.jobLocation(), createdEntry.jobDuration(), createdEntry.jobType(), createdEntry.jobPay(), createdEntry.jobLink(), null, principal.getName()); 
+            JobEntry postedEntry; 
+            try {
+                postedEntry = jobEntryStore.save(jobEntry_withOwner); 
+            } catch (RuntimeException e) {
+                if (isDuplicate(e)) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build(); 
+                }
+                throw e; 
+            }
+            changeFeed.publish(JobEntryEvent.Type.CREATED, postedEntry.jobID(), postedEntry); 
+            savedSearchAlerts.onJobEntrySaved(postedEntry); 
+
+            postLocation = ucb
+                    .path("jobseeker/{jobID}")
+                    .buildAndExpand(postedEntry.jobID())
+                    .toUri();
+            return ResponseEntity.created(postLocation).build();
+        } finally {
+            // only successful creations are replayed, anything else frees the key for another attempt 
+            if (idempotencyKey != null) {
+                if (postLocation != null) {
+                    idempotencyCache.complete(principal.getName(), idempotencyKey, postLocation); 
+                }
+                else {
+                    idempotencyCache.release(principal.getName(), idempotencyKey); 
+                }
+            }
+        }
+    }
 
-        URI postLocation = ucb
+    /// Helper Method
+    ///     builds a "409 CONFLICT" response pointing at the existing job entry 
+    private ResponseEntity<Void> conflictWith(Long jobID, UriComponentsBuilder ucb) {
+        URI existingLocation = ucb
                 .path("jobseeker/{jobID}")
-                .buildAndExpand(postedEntry.jobID())
-                .toUri();
-        return ResponseEntity.created(postLocation).build();
+                .buildAndExpand(jobID)
+                .toUri(); 
+        return ResponseEntity.status(HttpStatus.CONFLICT).location(existingLocation).build(); 
+    }
+
+    /// Helper Method
+    ///     true if a save failed on a unique index (the content fingerprint), Spring Data JDBC wraps the DuplicateKeyException 
+    private static boolean isDuplicate(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DuplicateKeyException) {
+                return true; 
+            }
+        }
+        return false; 
     }
     
     
@@ -95,7 +220,7 @@ public class JobEntryController {
     @GetMapping("/{requestedID}")
     private ResponseEntity<JobEntry> findById(@PathVariable Long requestedID) {
         // use path variable to match ID to data 
-        Optional<JobEntry> jobEntry = jobEntryRepository.findById(requestedID); 
+        Optional<JobEntry> jobEntry = jobEntryStore.findById(requestedID); 
         
         if (jobEntry.isPresent()) {
             return ResponseEntity.ok(jobEntry.get()); 
@@ -108,15 +233,25 @@ public class JobEntryController {
     /// Request Type : PUT 
     ///     handles PUT requests mapped to /jobseeker/{requestedID}
     /// returns: 
-    ///     status - HTTP "204 NO_CONTENT"
+    ///     status - HTTP "204 NO_CONTENT", "409 CONFLICT" if the update duplicates another posting 
     ///     response body - empty 
     @PutMapping("/{requestedID}")
     private ResponseEntity<Void> putJobEntry(@PathVariable Long requestedID, @RequestBody JobEntry update, Principal principal) {
-        JobEntry jobEntry = jobEntryRepository.findByJobIDAndOwner(requestedID, principal.getName()); 
+        JobEntry jobEntry = jobEntryStore.findByJobIDAndOwner(requestedID, principal.getName()); 
 
         if (jobEntry != null) {
             JobEntry updatedJobEntry = new JobEntry(update.jobName(), update.companyName(), update.postDate(), update.closeDate(), update.jobLocation(), update.jobDuration(), update.jobType(), update.jobPay(), update.jobLink(), jobEntry.jobID(), principal.getName()); 
-            jobEntryRepository.save(updatedJobEntry); 
+            try {
+                jobEntryStore.save(updatedJobEntry); 
+            } catch (RuntimeException e) {
+                if (isDuplicate(e)) {
+                    // the update would make this posting identical to another one 
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build(); 
+                }
+                throw e; 
+            }
+            changeFeed.publish(JobEntryEvent.Type.UPDATED, updatedJobEntry.jobID(), updatedJobEntry); 
+            savedSearchAlerts.onJobEntrySaved(updatedJobEntry); 
 
             return ResponseEntity.noContent().build();
         }
@@ -130,14 +265,24 @@ public class JobEntryController {
     /// Request Type : PATCH with JSON-Patch format 
     ///     handles PATCH requests mapped to /jobseeker/{requestedID}
     /// returns: 
-    ///     status - HTTP "204 NO_CONTENT"
+    ///     status - HTTP "204 NO_CONTENT", "409 CONFLICT" if the patch duplicates another posting 
     ///     response body - empty 
     @PatchMapping(path = "/{requestedID}", consumes ="application/json-patch+json")
     private ResponseEntity<Void> patchJobEntry(@PathVariable Long requestedID, @RequestBody JsonPatch patch, Principal principal) {
         try {
-            JobEntry jobEntry = jobEntryRepository.findByJobIDAndOwner(requestedID, principal.getName()); 
+            JobEntry jobEntry = jobEntryStore.findByJobIDAndOwner(requestedID, principal.getName()); 
             JobEntry jobPatched = applyPatchToJob(patch, jobEntry);
-            jobEntryRepository.save(jobPatched); 
+            try {
+                jobEntryStore.save(jobPatched); 
+            } catch (RuntimeException e) {
+                // only the save itself can conflict, failures after it must not be reported as a duplicate 
+                if (isDuplicate(e)) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build(); 
+                }
+                throw e; 
+            }
+            changeFeed.publish(JobEntryEvent.Type.UPDATED, jobPatched.jobID(), jobPatched); 
+            savedSearchAlerts.onJobEntrySaved(jobPatched); 
             return ResponseEntity.noContent().build(); 
         } catch (JsonPatchException | JsonProcessingException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build(); // TODO: maybe change to different error code for ambiguity? 
@@ -175,8 +320,10 @@ public class JobEntryController {
     ///     quirk - if non-registered user (random username and password) requests unauthorized DELETE, it shows "UNAUTHORIZED" instead of "NOT FOUND"
     @DeleteMapping("/{requestedID}") 
     private ResponseEntity<Void> deleteJobEntry(@PathVariable Long requestedID, Principal principal) {
-        if (jobEntryRepository.existsByJobIDAndOwner(requestedID, principal.getName())) {
-            jobEntryRepository.deleteById(requestedID);
+        if (jobEntryStore.existsByJobIDAndOwner(requestedID, principal.getName())) {
+            jobEntryStore.deleteById(requestedID);
+            savedSearchAlerts.onJobEntryDeleted(requestedID); 
+            changeFeed.publish(JobEntryEvent.Type.DELETED, requestedID, null); 
             return ResponseEntity.noContent().build(); 
         }
 
@@ -0,0 +1,20 @@
+package com.board.jobseeker;
+
+/// The JobEntryEvent data type describes a single change made to the job board:
+/// sequence - monotonically increasing event number, sent to clients as the SSE event id 
+/// type - what happened to the job entry (CREATED, UPDATED, DELETED)
+/// jobID - the job entry that changed 
+/// entry - the job entry after the change, null for DELETED
+
+public record JobEntryEvent (
+    long sequence, 
+    Type type, 
+    Long jobID, 
+    JobEntry entry) {
+
+    public enum Type {
+        CREATED, 
+        UPDATED, 
+        DELETED
+    }
+}
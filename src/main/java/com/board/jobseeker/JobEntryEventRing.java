@@ -0,0 +1,71 @@
+package com.board.jobseeker;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/// Fixed-size, lock-free ring buffer holding the most recent job entry events 
+///     writers claim a sequence number with a single atomic increment and never wait on readers
+///     a slot only ever moves forward: an event is stored only over an older one 
+///     readers keep their own cursor (next sequence to read) and are never tracked by the ring 
+///     once the ring wraps past a reader's cursor, that reader has fallen too far behind and is told so 
+class JobEntryEventRing {
+
+    private final AtomicReferenceArray<JobEntryEvent> slots; 
+    private final int mask; 
+
+    // sequence numbers start at 1 so that a Last-Event-ID of 0 means "nothing seen yet"
+    private final AtomicLong nextSequence = new AtomicLong(1); 
+
+    JobEntryEventRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("ring capacity must be a positive power of two: " + capacity); 
+        }
+        this.slots = new AtomicReferenceArray<>(capacity); 
+        this.mask = capacity - 1; 
+    }
+
+    // publishes a new event, overwriting the oldest one once the ring is full 
+    JobEntryEvent publish(JobEntryEvent.Type type, Long jobID, JobEntry entry) {
+        JobEntryEvent event = new JobEntryEvent(nextSequence.getAndIncrement(), type, jobID, entry); 
+        store(event); 
+        return event; 
+    }
+
+    // stores an event whose sequence has been claimed, unless the slot already holds a newer one 
+    //     a writer that stalls between claiming and storing would otherwise overwrite the event of a later lap 
+    void store(JobEntryEvent event) {
+        int index = index(event.sequence()); 
+        JobEntryEvent current; 
+        do {
+            current = slots.get(index); 
+            if (current != null && current.sequence() > event.sequence()) {
+                return; 
+            }
+        } while (!slots.compareAndSet(index, current, event)); 
+    }
+
+    // returns the event with the given sequence, or null if it has not been published (or was overwritten)
+    JobEntryEvent get(long sequence) {
+        JobEntryEvent event = slots.get(index(sequence)); 
+        return (event != null && event.sequence() == sequence) ? event : null; 
+    }
+
+    // true if the slot for this sequence already holds a newer event, i.e. the reader has been lapped 
+    boolean isOverwritten(long sequence) {
+        JobEntryEvent event = slots.get(index(sequence)); 
+        return event != null && event.sequence() > sequence; 
+    }
+
+    // the sequence number the next published event will receive 
+    long head() {
+        return nextSequence.get(); 
+    }
+
+    int capacity() {
+        return mask + 1; 
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask); 
+    }
+}
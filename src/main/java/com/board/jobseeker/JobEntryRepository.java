@@ -1,15 +1,31 @@
 package com.board.jobseeker;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 // extend sub-interface of Spring Data's |Repository|, automatically generating CRUD methods
-// CrudRepository<JobEntry, Long> indicates to repository that domain type is JobEntry, with it's ID being a Long 
-interface JobEntryRepository extends CrudRepository<JobEntry, Long>, PagingAndSortingRepository<JobEntry, Long> {
+// CrudRepository<JobEntryRow, Long> indicates to repository that domain type is JobEntryRow, with it's ID being a Long 
+// owner and other repeated strings are dictionary ids here, JobEntryStore resolves them and maps rows to JobEntry 
+interface JobEntryRepository extends CrudRepository<JobEntryRow, Long>, PagingAndSortingRepository<JobEntryRow, Long> {
     
     // returns a specific job entry given jobID and owner, used for requests that require authorization 
-    JobEntry findByJobIDAndOwner(Long jobID, String owner); 
+    JobEntryRow findByJobIDAndOwnerID(Long jobID, int ownerID); 
+
+    boolean existsByJobIDAndOwnerID(Long jobID, int ownerID); 
+
+    // keyset pagination over a single owner's job entries, backed by the (OWNER_ID, JOB_ID) index 
+    // the cursor is the last jobID seen, the pageable only supplies page size and sort direction 
+    List<JobEntryRow> findByOwnerIDAndJobIDGreaterThan(int ownerID, Long jobID, Pageable pageable); 
+
+    List<JobEntryRow> findByOwnerIDAndJobIDLessThan(int ownerID, Long jobID, Pageable pageable); 
 
-    boolean existsByJobIDAndOwner(Long jobID, String owner); 
+    // returns the jobID of an existing posting with the same content fingerprint, or null, using the unique CONTENT_HASH index 
+    @Query("SELECT JOB_ID FROM JOB_ENTRY WHERE CONTENT_HASH = :contentHash")
+    Long findJobIDByContentHash(@Param("contentHash") byte[] contentHash); 
 
 }
@@ -0,0 +1,27 @@
+package com.board.jobseeker;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/// Storage form of a JobEntry, one row of JOB_ENTRY 
+///     companyName, jobLocation, jobType and owner are stored as ids into their dictionary tables (see StringDictionary) 
+///     contentHash - fingerprint used to reject duplicate postings (see JobEntryStore.fingerprint) 
+///     JobEntryStore converts between this and JobEntry, nothing outside of it should need this type 
+
+@Table("JOB_ENTRY")
+public record JobEntryRow (
+    String jobName, 
+    int companyID, 
+    LocalDate postDate, 
+    LocalDate closeDate, 
+    int jobLocationID, 
+    int jobDuration, 
+    int jobTypeID, 
+    int jobPay, 
+    String jobLink, 
+    @Id Long jobID, 
+    int ownerID, 
+    byte[] contentHash) {
+}
@@ -0,0 +1,117 @@
+package com.board.jobseeker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/// Describes how job entries are spread over databases and runs work on one or all of them
+///     owner decides the shard of a new job entry, so an owner's postings (and ownership checks) live on one shard 
+///     every jobID carries its shard in the high bits (see SHARD_SHIFT), so lookups by jobID alone need no directory 
+///     with a single shard nothing is routed and no threads are started 
+class JobEntryShards {
+
+    // jobID = (shard << SHARD_SHIFT) | per-shard identity value, leaving 2^48 ids per shard 
+    // shard 0 ids are plain identity values, so a single-shard database needs no renumbering to become shard 0 
+    static final int SHARD_SHIFT = 48; 
+
+    private final List<JdbcTemplate> jdbcTemplates; 
+    private final ExecutorService scatterExecutor; 
+
+    // one shard, the application's only DataSource 
+    JobEntryShards(DataSource dataSource) {
+        this.jdbcTemplates = List.of(new JdbcTemplate(dataSource)); 
+        this.scatterExecutor = null; 
+    }
+
+    JobEntryShards(ShardRoutingDataSource routingDataSource) {
+        List<JdbcTemplate> templates = new ArrayList<>(); 
+        for (DataSource shard : routingDataSource.shards()) {
+            templates.add(new JdbcTemplate(shard)); 
+        }
+        this.jdbcTemplates = List.copyOf(templates); 
+        // a virtual thread per shard query: concurrent listings never queue behind a fixed number of threads, 
+        // the shards' connection pools are what bounds the queries actually running 
+        this.scatterExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-entry-scatter-", 0).factory()); 
+    }
+
+    int count() {
+        return jdbcTemplates.size(); 
+    }
+
+    // String.hashCode is specified by the JDK, so the same owner maps to the same shard on every instance 
+    // NOTE: changing the shard count moves owners, JobEntryStore refuses to start on data placed for another count 
+    int shardOfOwner(String owner) {
+        return Math.floorMod(owner.hashCode(), count()); 
+    }
+
+    // -1 for jobIDs that cannot exist with the configured number of shards 
+    int shardOfJobID(long jobID) {
+        long shard = jobID >>> SHARD_SHIFT; 
+        return (shard < count()) ? (int) shard : -1; 
+    }
+
+    // first identity value of a shard's JOB_ENTRY table 
+    static long firstJobID(int shard) {
+        return ((long) shard << SHARD_SHIFT) + 1; 
+    }
+
+    // direct access to each shard's database, bypassing routing (dictionary replication) 
+    List<JdbcTemplate> jdbcTemplates() {
+        return jdbcTemplates; 
+    }
+
+    <T> T onShard(int shard, Supplier<T> work) {
+        if (scatterExecutor == null) {
+            return work.get(); 
+        }
+        return ShardRoutingDataSource.onShard(shard, work); 
+    }
+
+    // runs the work on every shard in parallel, results are in shard order 
+    <T> List<T> onAllShards(IntFunction<T> work) {
+        if (scatterExecutor == null) {
+            return List.of(work.apply(0)); 
+        }
+
+        List<Future<T>> futures = new ArrayList<>(); 
+        for (int shard = 0; shard < count(); shard++) {
+            int target = shard; 
+            futures.add(scatterExecutor.submit(() -> ShardRoutingDataSource.onShard(target, () -> work.apply(target)))); 
+        }
+
+        List<T> results = new ArrayList<>(); 
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get()); 
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); 
+            throw new IllegalStateException("interrupted while querying shards", e); 
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException; 
+            }
+            throw new IllegalStateException(e.getCause()); 
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true); 
+            }
+        }
+        return results; 
+    }
+
+    void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow(); 
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package com.board.jobseeker;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/// Reads and writes JobEntry through JobEntryRepository, translating the repeated string columns 
+/// (companyName, jobLocation, jobType, owner) to and from their dictionary ids 
+///     owner filters resolve the owner name to its id once, then every query compares integers 
+///     an owner that was never stored has no id, so owner-scoped lookups return nothing without querying JOB_ENTRY 
+///     with several shards (see JobEntryShards), new job entries and owner listings go to the owner's shard, 
+///     lookups and ownership checks by jobID go to the shard encoded in the id, and listings query every shard in parallel and merge 
+@Component
+class JobEntryStore {
+
+    /// ORDER BY expression of each JobEntry sort property 
+    ///     dictionary-encoded properties sort by the joined dictionary NAME, so listings are alphabetical 
+    ///     (not in the order names were first stored), only the dictionaries a sort uses are joined 
+    private record SortColumn(String expression, String join) {
+    }
+
+    private static final Map<String, SortColumn> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("jobName", new SortColumn("J.JOB_NAME", null)), 
+            Map.entry("companyName", new SortColumn("C.NAME", "JOIN DICT_COMPANY C ON C.ID = J.COMPANY_ID")), 
+            Map.entry("postDate", new SortColumn("J.POST_DATE", null)), 
+            Map.entry("closeDate", new SortColumn("J.CLOSE_DATE", null)), 
+            Map.entry("jobLocation", new SortColumn("L.NAME", "JOIN DICT_LOCATION L ON L.ID = J.JOB_LOCATION_ID")), 
+            Map.entry("jobDuration", new SortColumn("J.JOB_DURATION", null)), 
+            Map.entry("jobType", new SortColumn("T.NAME", "JOIN DICT_JOB_TYPE T ON T.ID = J.JOB_TYPE_ID")), 
+            Map.entry("jobPay", new SortColumn("J.JOB_PAY", null)), 
+            Map.entry("jobLink", new SortColumn("J.JOB_LINK", null)), 
+            Map.entry("jobID", new SortColumn("J.JOB_ID", null)), 
+            Map.entry("owner", new SortColumn("O.NAME", "JOIN DICT_OWNER O ON O.ID = J.OWNER_ID"))); 
+
+    private static final RowMapper<JobEntryRow> ROW_MAPPER = (resultSet, rowNum) -> new JobEntryRow(
+            resultSet.getString("JOB_NAME"), resultSet.getInt("COMPANY_ID"), 
+            resultSet.getObject("POST_DATE", LocalDate.class), resultSet.getObject("CLOSE_DATE", LocalDate.class), 
+            resultSet.getInt("JOB_LOCATION_ID"), resultSet.getInt("JOB_DURATION"), resultSet.getInt("JOB_TYPE_ID"), resultSet.getInt("JOB_PAY"), 
+            resultSet.getString("JOB_LINK"), resultSet.getLong("JOB_ID"), resultSet.getInt("OWNER_ID"), resultSet.getBytes("CONTENT_HASH")); 
+
+    private final JobEntryRepository jobEntryRepository; 
+    private final JobEntryShards shards; 
+
+    private final StringDictionary companies; 
+    private final StringDictionary locations; 
+    private final StringDictionary jobTypes; 
+    private final StringDictionary owners; 
+
+    // fingerprints of all shards' postings, null with a single shard 
+    private final ContentFingerprints fingerprints; 
+
+    // JobEntryRow values in the same order the database sorts SORT_COLUMNS, used to merge the sorted rows of several shards 
+    // names compare with String.compareTo, the same order H2 uses for VARCHAR without a collation 
+    private final Map<String, Function<JobEntryRow, Comparable<?>>> sortKeys; 
+
+    JobEntryStore(JobEntryRepository jobEntryRepository, JobEntryShards shards) {
+        this.jobEntryRepository = jobEntryRepository; 
+        this.shards = shards; 
+
+        // dictionaries are kept on shard 0 and copied to the other shards 
+        JdbcTemplate dictionaryTemplate = shards.jdbcTemplates().get(0); 
+        List<JdbcTemplate> replicas = shards.jdbcTemplates().subList(1, shards.count()); 
+        this.companies = new StringDictionary(dictionaryTemplate, replicas, "DICT_COMPANY"); 
+        this.locations = new StringDictionary(dictionaryTemplate, replicas, "DICT_LOCATION"); 
+        this.jobTypes = new StringDictionary(dictionaryTemplate, replicas, "DICT_JOB_TYPE"); 
+        this.owners = new StringDictionary(dictionaryTemplate, replicas, "DICT_OWNER"); 
+
+        if (shards.count() > 1) {
+            checkOwnerPlacement(); 
+            this.fingerprints = new ContentFingerprints(dictionaryTemplate); 
+            fingerprints.rebuild(shards.jdbcTemplates()); 
+        }
+        else {
+            this.fingerprints = null; 
+        }
+
+        this.sortKeys = Map.ofEntries(
+                Map.entry("jobName", JobEntryRow::jobName), 
+                Map.entry("companyName", row -> companies.nameFor(row.companyID())), 
+                Map.entry("postDate", JobEntryRow::postDate), 
+                Map.entry("closeDate", JobEntryRow::closeDate), 
+                Map.entry("jobLocation", row -> locations.nameFor(row.jobLocationID())), 
+                Map.entry("jobDuration", JobEntryRow::jobDuration), 
+                Map.entry("jobType", row -> jobTypes.nameFor(row.jobTypeID())), 
+                Map.entry("jobPay", JobEntryRow::jobPay), 
+                Map.entry("jobLink", JobEntryRow::jobLink), 
+                Map.entry("jobID", JobEntryRow::jobID), 
+                Map.entry("owner", row -> owners.nameFor(row.ownerID()))); 
+    }
+
+    // new job entries go to their owner's shard, updates to the shard their jobID belongs to 
+    // with several shards the fingerprint is claimed first, a duplicate on any shard fails with DuplicateKeyException 
+    JobEntry save(JobEntry jobEntry) {
+        int shard = (jobEntry.jobID() == null) ? shards.shardOfOwner(jobEntry.owner()) : shards.shardOfJobID(jobEntry.jobID()); 
+        if (shard < 0) {
+            throw new IllegalArgumentException("jobID " + jobEntry.jobID() + " does not belong to any shard"); 
+        }
+
+        JobEntryRow row = toRow(jobEntry); 
+        if (fingerprints == null) {
+            return toJobEntry(shards.onShard(shard, () -> jobEntryRepository.save(row))); 
+        }
+
+        // an update only claims a fingerprint if it changes the posting's content 
+        byte[] previousHash = (jobEntry.jobID() == null) ? null 
+                : shards.onShard(shard, () -> jobEntryRepository.findById(jobEntry.jobID())).map(JobEntryRow::contentHash).orElse(null); 
+        boolean claimed = !Arrays.equals(previousHash, row.contentHash()); 
+        if (claimed) {
+            fingerprints.claim(row.contentHash(), jobEntry.jobID()); 
+        }
+
+        JobEntryRow saved; 
+        try {
+            saved = shards.onShard(shard, () -> jobEntryRepository.save(row)); 
+        } catch (RuntimeException e) {
+            if (claimed) {
+                fingerprints.release(row.contentHash()); 
+            }
+            throw e; 
+        }
+
+        if (jobEntry.jobID() == null) {
+            fingerprints.assign(row.contentHash(), saved.jobID()); 
+        }
+        else if (claimed && previousHash != null) {
+            fingerprints.release(previousHash); 
+        }
+        return toJobEntry(saved); 
+    }
+
+    Optional<JobEntry> findById(Long jobID) {
+        int shard = shards.shardOfJobID(jobID); 
+        if (shard < 0) {
+            return Optional.empty(); 
+        }
+        return shards.onShard(shard, () -> jobEntryRepository.findById(jobID)).map(this::toJobEntry); 
+    }
+
+    /// every shard returns its own first (offset + size) rows in the requested order, 
+    /// a k-way merge of those sorted lists then yields the requested page of the whole board 
+    Page<JobEntry> findAll(Pageable pageable) {
+        Sort sort = pageable.getSort(); 
+        // jobID as the last sort key makes the order total, so shards and the merge agree on ties 
+        if (sort.getOrderFor("jobID") == null) {
+            sort = sort.and(Sort.by("jobID")); 
+        }
+        String query = listQuery(sort); 
+        long offset = pageable.getOffset(); 
+        int size = pageable.getPageSize(); 
+
+        if (shards.count() == 1) {
+            JdbcTemplate jdbcTemplate = shards.jdbcTemplates().get(0); 
+            List<JobEntry> content = jdbcTemplate.query(query + " LIMIT ? OFFSET ?", ROW_MAPPER, size, offset).stream()
+                    .map(this::toJobEntry)
+                    .toList(); 
+            return new PageImpl<>(content, pageable, countRows(jdbcTemplate)); 
+        }
+
+        long limit = Math.min(Integer.MAX_VALUE, offset + size); 
+        List<List<JobEntryRow>> sortedRows = shards.onAllShards(shard -> shards.jdbcTemplates().get(shard).query(query + " LIMIT ?", ROW_MAPPER, limit)); 
+        long total = 0; 
+        for (long shardTotal : shards.onAllShards(shard -> countRows(shards.jdbcTemplates().get(shard)))) {
+            total += shardTotal; 
+        }
+
+        List<JobEntry> content = merge(sortedRows, comparatorFor(sort), offset, size).stream()
+                .map(this::toJobEntry)
+                .toList(); 
+        return new PageImpl<>(content, pageable, total); 
+    }
+
+    void deleteById(Long jobID) {
+        int shard = shards.shardOfJobID(jobID); 
+        if (shard >= 0) {
+            shards.onShard(shard, () -> {
+                jobEntryRepository.deleteById(jobID); 
+                return null; 
+            }); 
+            if (fingerprints != null) {
+                fingerprints.releaseJob(jobID); 
+            }
+        }
+    }
+
+    // returns a specific job entry given jobID and owner, null if it does not exist or belongs to someone else 
+    // the owner is compared on the shard holding the jobID, whichever shard the owner's new entries go to 
+    JobEntry findByJobIDAndOwner(Long jobID, String owner) {
+        Integer ownerID = owners.find(owner); 
+        int shard = shards.shardOfJobID(jobID); 
+        if (ownerID == null || shard < 0) {
+            return null; 
+        }
+        JobEntryRow row = shards.onShard(shard, () -> jobEntryRepository.findByJobIDAndOwnerID(jobID, ownerID)); 
+        return (row != null) ? toJobEntry(row) : null; 
+    }
+
+    boolean existsByJobIDAndOwner(Long jobID, String owner) {
+        Integer ownerID = owners.find(owner); 
+        int shard = shards.shardOfJobID(jobID); 
+        return ownerID != null && shard >= 0 
+                && shards.onShard(shard, () -> jobEntryRepository.existsByJobIDAndOwnerID(jobID, ownerID)); 
+    }
+
+    // keyset page of the owner's job entries strictly after the cursor in the given jobID direction 
+    List<JobEntry> findByOwnerAfter(String owner, Long after, Sort.Direction direction, int size) {
+        Integer ownerID = owners.find(owner); 
+        if (ownerID == null) {
+            return List.of(); 
+        }
+
+        Pageable keyset = PageRequest.of(0, size, Sort.by(direction, "jobID")); 
+        List<JobEntryRow> rows = shards.onShard(shards.shardOfOwner(owner), () -> {
+            if (direction.isAscending()) {
+                return jobEntryRepository.findByOwnerIDAndJobIDGreaterThan(ownerID, (after != null) ? after : Long.MIN_VALUE, keyset); 
+            }
+            return jobEntryRepository.findByOwnerIDAndJobIDLessThan(ownerID, (after != null) ? after : Long.MAX_VALUE, keyset); 
+        }); 
+        return rows.stream().map(this::toJobEntry).toList(); 
+    }
+
+    // returns the jobID of an existing posting with the same content, or null 
+    // one lookup on the unique CONTENT_HASH index, in JOB_ENTRY or, with several shards, in the fingerprint registry 
+    Long findJobIDByContent(JobEntry jobEntry) {
+        byte[] contentHash = fingerprint(jobEntry); 
+        if (fingerprints != null) {
+            return fingerprints.find(contentHash); 
+        }
+        return jobEntryRepository.findJobIDByContentHash(contentHash); 
+    }
+
+    /// Helper Method
+    ///     refuses to start when a shard holds job entries of an owner routed to another shard, e.g. an existing single 
+    ///     database promoted to shard 0 or a changed shard count: those entries would be missing from the owner's listing 
+    ///     and new ones would land elsewhere; rows are not moved automatically since moving them changes their jobIDs 
+    private void checkOwnerPlacement() {
+        List<List<String>> ownersByShard = shards.onAllShards(shard -> shards.jdbcTemplates().get(shard).queryForList(
+                "SELECT NAME FROM DICT_OWNER WHERE ID IN (SELECT DISTINCT OWNER_ID FROM JOB_ENTRY)", String.class)); 
+
+        List<String> misplaced = new ArrayList<>(); 
+        for (int shard = 0; shard < ownersByShard.size(); shard++) {
+            for (String owner : ownersByShard.get(shard)) {
+                if (shards.shardOfOwner(owner) != shard) {
+                    misplaced.add(owner + " (stored on shard " + shard + ", routed to shard " + shards.shardOfOwner(owner) + ")"); 
+                }
+            }
+        }
+        if (!misplaced.isEmpty()) {
+            throw new IllegalStateException("job entries are stored on a shard their owner is not routed to with jobseeker.shards.count=" 
+                    + shards.count() + ": " + String.join(", ", misplaced) 
+                    + "; keep the shard count the data was written with, or move these owners' job entries first"); 
+        }
+    }
+
+    /// Helper Method
+    ///     merges lists that are each sorted by the comparator, skipping the first 'offset' rows and returning at most 'size' 
+    static List<JobEntryRow> merge(List<List<JobEntryRow>> sortedLists, Comparator<JobEntryRow> comparator, long offset, int size) {
+        record Cursor(List<JobEntryRow> rows, int index) {
+            JobEntryRow head() {
+                return rows.get(index); 
+            }
+        }
+
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.head(), b.head())); 
+        for (List<JobEntryRow> rows : sortedLists) {
+            if (!rows.isEmpty()) {
+                heads.add(new Cursor(rows, 0)); 
+            }
+        }
+
+        List<JobEntryRow> merged = new ArrayList<>(); 
+        long skipped = 0; 
+        while (merged.size() < size && !heads.isEmpty()) {
+            Cursor cursor = heads.poll(); 
+            if (skipped < offset) {
+                skipped++; 
+            }
+            else {
+                merged.add(cursor.head()); 
+            }
+            if (cursor.index() + 1 < cursor.rows().size()) {
+                heads.add(new Cursor(cursor.rows(), cursor.index() + 1)); 
+            }
+        }
+        return merged; 
+    }
+
+    // true if every property of the sort is one job entries can be sorted by 
+    static boolean isSortable(Sort sort) {
+        return sort.stream().allMatch(order -> SORT_COLUMNS.containsKey(order.getProperty())); 
+    }
+
+    /// Helper Method
+    ///     SELECT over JOB_ENTRY ordered by the sort, joining the dictionaries of dictionary-encoded sort properties 
+    ///     only whitelisted columns from SORT_COLUMNS ever reach the SQL 
+    static String listQuery(Sort sort) {
+        Set<String> joins = new LinkedHashSet<>(); 
+        List<String> orderBy = new ArrayList<>(); 
+        for (Sort.Order order : sort) {
+            SortColumn column = SORT_COLUMNS.get(order.getProperty()); 
+            if (column == null) {
+                throw new IllegalArgumentException("job entries cannot be sorted by " + order.getProperty()); 
+            }
+            if (column.join() != null) {
+                joins.add(column.join()); 
+            }
+            orderBy.add(column.expression() + (order.isAscending() ? " ASC" : " DESC")); 
+        }
+
+        StringBuilder query = new StringBuilder("SELECT J.* FROM JOB_ENTRY J"); 
+        for (String join : joins) {
+            query.append(' ').append(join); 
+        }
+        return query.append(" ORDER BY ").append(String.join(", ", orderBy)).toString(); 
+    }
+
+    /// Helper Method
+    ///     comparator matching the ORDER BY of listQuery for the same sort 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Comparator<JobEntryRow> comparatorFor(Sort sort) {
+        Comparator<JobEntryRow> comparator = (a, b) -> 0; 
+        for (Sort.Order order : sort) {
+            Function<JobEntryRow, Comparable<?>> property = sortKeys.get(order.getProperty()); 
+            if (property == null) {
+                throw new IllegalArgumentException("job entries cannot be sorted by " + order.getProperty()); 
+            }
+            Comparator<JobEntryRow> byProperty = (a, b) -> ((Comparable) property.apply(a)).compareTo(property.apply(b)); 
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed()); 
+        }
+        return comparator; 
+    }
+
+    private static long countRows(JdbcTemplate jdbcTemplate) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM JOB_ENTRY", Long.class); 
+        return (count != null) ? count : 0; 
+    }
+
+    /// Helper Method
+    ///     SHA-256 of company name, job name, location (all trimmed and lower-cased) and the trimmed link, 
+    ///     joined with the unit separator character; two postings with the same fingerprint are duplicates 
+    static byte[] fingerprint(JobEntry jobEntry) {
+        String content = String.join("\u001F", 
+                jobEntry.companyName().trim().toLowerCase(Locale.ROOT), 
+                jobEntry.jobName().trim().toLowerCase(Locale.ROOT), 
+                jobEntry.jobLocation().trim().toLowerCase(Locale.ROOT), 
+                jobEntry.jobLink().trim()); 
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)); 
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256 
+            throw new IllegalStateException(e); 
+        }
+    }
+
+    private JobEntryRow toRow(JobEntry jobEntry) {
+        return new JobEntryRow(jobEntry.jobName(), companies.idFor(jobEntry.companyName()), jobEntry.postDate(), jobEntry.closeDate(), 
+                locations.idFor(jobEntry.jobLocation()), jobEntry.jobDuration(), jobTypes.idFor(jobEntry.jobType()), jobEntry.jobPay(), 
+                jobEntry.jobLink(), jobEntry.jobID(), owners.idFor(jobEntry.owner()), fingerprint(jobEntry)); 
+    }
+
+    private JobEntry toJobEntry(JobEntryRow row) {
+        return new JobEntry(row.jobName(), companies.nameFor(row.companyID()), row.postDate(), row.closeDate(), 
+                locations.nameFor(row.jobLocationID()), row.jobDuration(), jobTypes.nameFor(row.jobTypeID()), row.jobPay(), 
+                row.jobLink(), row.jobID(), owners.nameFor(row.ownerID())); 
+    }
+}
@@ -0,0 +1,25 @@
+package com.board.jobseeker;
+
+import java.util.Set;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// only takes effect with spring.main.lazy-initialization=true (the "faststart" profile) 
+@Configuration
+public class LazyInitializationConfig {
+
+    // beans whose work is not needed to serve job entries, they are created on first use 
+    // (the controllers inject them through @Lazy proxies so creating a controller does not create them) 
+    // SavedSearchAlerts stays eager: every create/update uses it, and it rebuilds its index in the background itself 
+    private static final Set<Class<?>> NON_CRITICAL = Set.of(
+            JobEntryChangeFeed.class);  // SSE dispatcher and sender threads 
+
+    /// keeps every other bean eager: DataSource, schema initialization, repositories, JobEntryStore, security and controllers 
+    /// are all on the path of the first requests, deferring them would only move startup work into the first requests 
+    @Bean
+    static LazyInitializationExcludeFilter eagerCriticalBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType == null || !NON_CRITICAL.contains(beanType); 
+    }
+}
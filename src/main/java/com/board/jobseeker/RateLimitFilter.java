@@ -0,0 +1,110 @@
+package com.board.jobseeker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/// Rejects requests with "429 TOO MANY REQUESTS" and a Retry-After header once a client runs out of tokens
+///     tokens are taken per authenticated user, by afterAuthentication() once HTTP Basic authentication has succeeded 
+///     this filter runs right before authentication and only peeks at the bucket of the username claimed in the 
+///     Authorization header: a user already over the limit is turned away without a BCrypt check, and since nothing 
+///     is taken before the password is checked, a client guessing passwords cannot spend another user's tokens 
+///     failed attempts are counted per IP by entryPoint(), and only ever limit further failures, not valid logins 
+///     NOTE: not a @Component, SecurityConfig adds it to the security filter chain only 
+class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter; 
+
+    RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter; 
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String claimedUsername = basicUsername(request); 
+        if (claimedUsername != null) {
+            long retryAfter = rateLimiter.check(RateLimiter.classify(request), claimedUsername); 
+            if (retryAfter > 0) {
+                tooManyRequests(response, retryAfter); 
+                return; 
+            }
+        }
+        // requests without credentials cost no password check, authentication rejects them through entryPoint() 
+        filterChain.doFilter(request, response); 
+    }
+
+    /// filter for right after HTTP Basic authentication, takes a token from the authenticated user's bucket 
+    ///     a separate class, since OncePerRequestFilter marks requests as filtered by class name 
+    OncePerRequestFilter afterAuthentication() {
+        return new AfterAuthentication(rateLimiter); 
+    }
+
+    private static class AfterAuthentication extends OncePerRequestFilter {
+
+        private final RateLimiter rateLimiter; 
+
+        AfterAuthentication(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter; 
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication(); 
+            if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+                long retryAfter = rateLimiter.tryAcquire(RateLimiter.classify(request), authentication.getName()); 
+                if (retryAfter > 0) {
+                    tooManyRequests(response, retryAfter); 
+                    return; 
+                }
+            }
+            filterChain.doFilter(request, response); 
+        }
+    }
+
+    // username from an "Authorization: Basic" header, null if there is none or it cannot be decoded 
+    private static String basicUsername(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION); 
+        if (header == null || !header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            return null; 
+        }
+        try {
+            String credentials = new String(Base64.getDecoder().decode(header.substring(6).trim()), StandardCharsets.UTF_8); 
+            int colon = credentials.indexOf(':'); 
+            return (colon < 0) ? null : credentials.substring(0, colon); 
+        } catch (IllegalArgumentException e) {
+            return null; 
+        }
+    }
+
+    /// wraps the authentication entry point (which answers every unauthenticated attempt) 
+    /// so repeated failures from one IP get "429 TOO MANY REQUESTS" instead of another "401 UNAUTHORIZED"
+    AuthenticationEntryPoint entryPoint(AuthenticationEntryPoint delegate) {
+        return (HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) -> {
+            long retryAfter = rateLimiter.tryAcquire(RateLimiter.EndpointClass.UNAUTHENTICATED, request.getRemoteAddr()); 
+            if (retryAfter > 0) {
+                tooManyRequests(response, retryAfter); 
+                return; 
+            }
+            delegate.commence(request, response, authException); 
+        }; 
+    }
+
+    private static void tooManyRequests(HttpServletResponse response, long retryAfterSeconds) {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value()); 
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds)); 
+    }
+}
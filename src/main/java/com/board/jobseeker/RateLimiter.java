@@ -0,0 +1,137 @@
+package com.board.jobseeker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+
+/// Token buckets per (endpoint class, client), where the client is the authenticated username or, 
+/// for unauthenticated attempts, the remote IP address 
+///     buckets live in a ConcurrentHashMap (internally striped, lock-free reads) and are created on first use 
+///     buckets that have been full for a while are swept out by a background thread, since a fresh bucket behaves exactly the same 
+@Component
+class RateLimiter {
+
+    /// READ - single job entry or saved search lookups 
+    /// WRITE - anything that changes data (POST, PUT, PATCH, DELETE) 
+    /// BULK - listings returning many rows and the change feed subscription 
+    /// UNAUTHENTICATED - requests rejected by authentication, keyed by IP to slow down password guessing 
+    enum EndpointClass {
+        READ, 
+        WRITE, 
+        BULK, 
+        UNAUTHENTICATED
+    }
+
+    private record Limit(long capacity, double tokensPerSecond) {
+    }
+
+    private final Map<EndpointClass, Limit> limits; 
+    private final boolean enabled; 
+    private final long idleNanos; 
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>(); 
+
+    // sweeps idle buckets off the request path, a full pass over many clients would otherwise stall whichever request ran it 
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-sweeper"); 
+        thread.setDaemon(true); 
+        return thread; 
+    }); 
+
+    RateLimiter(
+            @Value("${jobseeker.rate-limit.enabled:true}") boolean enabled,
+            @Value("${jobseeker.rate-limit.read.capacity:100}") long readCapacity,
+            @Value("${jobseeker.rate-limit.read.per-second:50}") double readPerSecond,
+            @Value("${jobseeker.rate-limit.write.capacity:20}") long writeCapacity,
+            @Value("${jobseeker.rate-limit.write.per-second:5}") double writePerSecond,
+            @Value("${jobseeker.rate-limit.bulk.capacity:20}") long bulkCapacity,
+            @Value("${jobseeker.rate-limit.bulk.per-second:5}") double bulkPerSecond,
+            @Value("${jobseeker.rate-limit.unauthenticated.capacity:10}") long unauthenticatedCapacity,
+            @Value("${jobseeker.rate-limit.unauthenticated.per-second:1}") double unauthenticatedPerSecond,
+            @Value("${jobseeker.rate-limit.idle-eviction-ms:600000}") long idleEvictionMillis) {
+        this.enabled = enabled; 
+        this.limits = Map.of(
+                EndpointClass.READ, new Limit(readCapacity, readPerSecond), 
+                EndpointClass.WRITE, new Limit(writeCapacity, writePerSecond), 
+                EndpointClass.BULK, new Limit(bulkCapacity, bulkPerSecond), 
+                EndpointClass.UNAUTHENTICATED, new Limit(unauthenticatedCapacity, unauthenticatedPerSecond)); 
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMillis); 
+        if (enabled) {
+            sweeper.scheduleWithFixedDelay(this::sweep, idleEvictionMillis, idleEvictionMillis, TimeUnit.MILLISECONDS); 
+        }
+    }
+
+    /// takes one token for the client in the given endpoint class 
+    /// returns: 
+    ///     0 - request may proceed 
+    ///     otherwise - seconds the client should wait (Retry-After) 
+    long tryAcquire(EndpointClass endpointClass, String client) {
+        if (!enabled) {
+            return 0; 
+        }
+        long now = System.nanoTime(); 
+        TokenBucket bucket = buckets.get(endpointClass.name() + ":" + client); 
+        if (bucket == null) {
+            Limit limit = limits.get(endpointClass); 
+            bucket = buckets.computeIfAbsent(endpointClass.name() + ":" + client, key -> new TokenBucket(limit.capacity(), limit.tokensPerSecond(), now)); 
+        }
+
+        return retryAfterSeconds(bucket.tryConsume(now)); 
+    }
+
+    /// checks the client's bucket without taking a token, a client without a bucket has never been limited 
+    /// returns: 
+    ///     0 - a request would be allowed 
+    ///     otherwise - seconds the client should wait (Retry-After) 
+    long check(EndpointClass endpointClass, String client) {
+        if (!enabled) {
+            return 0; 
+        }
+        TokenBucket bucket = buckets.get(endpointClass.name() + ":" + client); 
+        return (bucket == null) ? 0 : retryAfterSeconds(bucket.peek(System.nanoTime())); 
+    }
+
+    // GET listings (many rows per request) and the feed count as BULK, other GETs as READ, everything else as WRITE 
+    static EndpointClass classify(HttpServletRequest request) {
+        String method = request.getMethod(); 
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return EndpointClass.WRITE; 
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length()); 
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1); 
+        }
+        if (path.equals("/jobseeker") || path.equals("/jobseeker/mine") || path.equals("/jobseeker/feed") 
+                || path.equals("/jobseeker/searches") || path.equals("/jobseeker/searches/alerts")) {
+            return EndpointClass.BULK; 
+        }
+        return EndpointClass.READ; 
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return (waitNanos == 0) ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)); 
+    }
+
+    int size() {
+        return buckets.size(); 
+    }
+
+    // a bucket evicted while another thread is using it just means that client starts again from a full bucket 
+    void sweep() {
+        long now = System.nanoTime(); 
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos)); 
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdownNow(); 
+    }
+}
@@ -0,0 +1,20 @@
+package com.board.jobseeker;
+
+import org.springframework.data.annotation.Id;
+
+/// The SavedSearch data type stores a user's alert criteria, null criteria match any job entry:
+/// searchID - unique numeric identifier for each saved search 
+/// owner - user account that saved the search and receives its alerts 
+/// jobType - exact job type to match, e.g. "Internship" (case-insensitive) 
+/// jobLocation - exact job location to match (case-insensitive) 
+/// minPay - lowest acceptable jobPay 
+/// keywords - space separated words that must all appear in the job name or company name 
+
+public record SavedSearch (
+    @Id Long searchID, 
+    String owner, 
+    String jobType, 
+    String jobLocation, 
+    Integer minPay, 
+    String keywords) {
+}
@@ -0,0 +1,99 @@
+package com.board.jobseeker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/// Keeps the in-memory SavedSearchIndex in sync with the SAVED_SEARCH table and raises alerts
+///     JobEntryController calls onJobEntrySaved after every create/update and onJobEntryDeleted after a delete, 
+///     SavedSearchController calls add/remove 
+///     the index only lives in memory and is rebuilt from SAVED_SEARCH in the background once the application is ready, 
+///     so neither startup nor the first requests wait for it; until then job entries are matched against every saved search 
+@Component
+class SavedSearchAlerts {
+
+    // the (SEARCH_ID, JOB_ID) key turns a repeated match (an updated job entry) into a no-op update instead of a second alert 
+    private static final String MERGE_ALERT = "MERGE INTO SEARCH_ALERT (SEARCH_ID, JOB_ID, OWNER) KEY (SEARCH_ID, JOB_ID) VALUES (?, ?, ?)"; 
+
+    private final SavedSearchRepository savedSearchRepository; 
+    private final SearchAlertRepository searchAlertRepository; 
+    private final JdbcTemplate jdbcTemplate; 
+    private final SavedSearchIndex index = new SavedSearchIndex(); 
+
+    // set once the index holds every saved search, match() is only used from then on 
+    private volatile boolean indexReady; 
+
+    // searches removed while the index is being rebuilt, the rebuild may have read them before they were deleted 
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet(); 
+
+    SavedSearchAlerts(SavedSearchRepository savedSearchRepository, SearchAlertRepository searchAlertRepository, JdbcTemplate jdbcTemplate) {
+        this.savedSearchRepository = savedSearchRepository; 
+        this.searchAlertRepository = searchAlertRepository; 
+        this.jdbcTemplate = jdbcTemplate; 
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildIndexInBackground() {
+        Thread thread = new Thread(this::rebuildIndex, "saved-search-index"); 
+        thread.setDaemon(true); 
+        thread.start(); 
+    }
+
+    // searches added meanwhile are already in the index (adding is idempotent), searches removed meanwhile are removed again 
+    void rebuildIndex() {
+        for (SavedSearch search : savedSearchRepository.findAll()) {
+            index.add(search); 
+        }
+        for (Long searchID : removedDuringRebuild) {
+            index.remove(searchID); 
+        }
+        indexReady = true; 
+        removedDuringRebuild.clear(); 
+    }
+
+    SavedSearch add(SavedSearch search) {
+        SavedSearch saved = savedSearchRepository.save(search); 
+        index.add(saved); 
+        return saved; 
+    }
+
+    void remove(Long searchID) {
+        if (!indexReady) {
+            removedDuringRebuild.add(searchID); 
+        }
+        index.remove(searchID); 
+        searchAlertRepository.deleteBySearchID(searchID); 
+        savedSearchRepository.deleteById(searchID); 
+    }
+
+    // records one alert per matching saved search in a single batch, updates do not repeat alerts already raised for the same job entry 
+    void onJobEntrySaved(JobEntry jobEntry) {
+        List<Object[]> alerts = new ArrayList<>(); 
+        List<SavedSearch> matches = indexReady ? index.match(jobEntry) : SavedSearchIndex.scan(savedSearchRepository.findAll(), jobEntry); 
+        for (SavedSearch search : matches) {
+            alerts.add(new Object[] {search.searchID(), jobEntry.jobID(), search.owner()}); 
+        }
+        if (alerts.isEmpty()) {
+            return; 
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(MERGE_ALERT, alerts); 
+        } catch (DuplicateKeyException e) {
+            // a concurrent update of the same job entry inserted the same alert first, merging again only updates 
+            jdbcTemplate.batchUpdate(MERGE_ALERT, alerts); 
+        }
+    }
+
+    // alerts never point at job entries that no longer exist 
+    void onJobEntryDeleted(Long jobID) {
+        searchAlertRepository.deleteByJobID(jobID); 
+    }
+}
@@ -0,0 +1,93 @@
+package com.board.jobseeker;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@RestController 
+@RequestMapping("/jobseeker/searches") // saved searches and their alerts, always scoped to the requesting user 
+public class SavedSearchController {
+
+    private final SavedSearchRepository savedSearchRepository; 
+    private final SearchAlertRepository searchAlertRepository; 
+    private final SavedSearchAlerts savedSearchAlerts; 
+
+    private SavedSearchController(SavedSearchRepository savedSearchRepository, SearchAlertRepository searchAlertRepository, SavedSearchAlerts savedSearchAlerts) {
+        this.savedSearchRepository = savedSearchRepository; 
+        this.searchAlertRepository = searchAlertRepository; 
+        this.savedSearchAlerts = savedSearchAlerts; 
+    }
+
+    /// Request Type : GET 
+    ///     handles GET requests mapped to /jobseeker/searches 
+    /// returns: 
+    ///     status - HTTP "200 OK"
+    ///     response body - list of the user's saved searches 
+    @GetMapping
+    private ResponseEntity<List<SavedSearch>> findMySearches(Principal principal) {
+        return ResponseEntity.ok(savedSearchRepository.findByOwner(principal.getName())); 
+    }
+
+    /// Request Type : POST 
+    ///     handles POST requests mapped to /jobseeker/searches, the saved search belongs to the user who posted it 
+    /// returns: 
+    ///     status - HTTP "201 CREATED"
+    ///     response body - location header field of resource created 
+    @PostMapping
+    private ResponseEntity<Void> createSearch(@RequestBody SavedSearch createdSearch, UriComponentsBuilder ucb, Principal principal) {
+        SavedSearch search_withOwner = new SavedSearch(null, principal.getName(), createdSearch.jobType(), createdSearch.jobLocation(), createdSearch.minPay(), createdSearch.keywords()); 
+        SavedSearch savedSearch = savedSearchAlerts.add(search_withOwner); 
+
+        URI searchLocation = ucb
+                .path("jobseeker/searches/{searchID}")
+                .buildAndExpand(savedSearch.searchID())
+                .toUri(); 
+        return ResponseEntity.created(searchLocation).build(); 
+    }
+
+    /// Request Type : DELETE
+    ///     handles DELETE requests mapped to /jobseeker/searches/{searchID}, also removing the search's alerts 
+    /// returns: 
+    ///     status - HTTP "204 NO_CONTENT", "404 NOT FOUND" for unknown or other users' searches 
+    ///     response body - empty 
+    @DeleteMapping("/{searchID}")
+    private ResponseEntity<Void> deleteSearch(@PathVariable Long searchID, Principal principal) {
+        if (savedSearchRepository.existsBySearchIDAndOwner(searchID, principal.getName())) {
+            savedSearchAlerts.remove(searchID); 
+            return ResponseEntity.noContent().build(); 
+        }
+
+        return ResponseEntity.notFound().build(); 
+    }
+
+    /// Request Type : GET 
+    ///     handles GET requests mapped to /jobseeker/searches/alerts, newest alerts first 
+    /// returns: 
+    ///     status - HTTP "200 OK"
+    ///     response body - page of the user's alerts (saved search and matching jobID) 
+    @GetMapping("/alerts")
+    private ResponseEntity<List<SearchAlert>> findMyAlerts(Pageable pageable, Principal principal) {
+        List<SearchAlert> alerts = searchAlertRepository.findByOwner(
+                principal.getName(), 
+                PageRequest.of(
+                    pageable.getPageNumber(), 
+                    pageable.getPageSize(), 
+                    Sort.by(Sort.Direction.DESC, "alertID")
+        )); 
+
+        return ResponseEntity.ok(alerts); 
+    }
+}
@@ -0,0 +1,154 @@
+package com.board.jobseeker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/// Reverse ("percolator") index over saved searches
+///     instead of testing every saved search against a new job entry, each search is filed under ONE of its predicates,
+///     the most selective one it has: a keyword, else its location, else its job type, else its pay floor
+///     matching a job entry only visits the buckets that job entry could satisfy, then verifies the remaining predicates
+///     every search lives in exactly one bucket, so no search is checked twice for the same job entry
+class SavedSearchIndex {
+
+    // keyword token -> searches anchored on that keyword
+    private final Map<String, Set<SavedSearch>> byKeyword = new ConcurrentHashMap<>();
+    private final Map<String, Set<SavedSearch>> byLocation = new ConcurrentHashMap<>();
+    private final Map<String, Set<SavedSearch>> byJobType = new ConcurrentHashMap<>();
+
+    // searches with only a pay floor, a job entry matches every bucket with minPay <= jobPay
+    private final ConcurrentSkipListMap<Integer, Set<SavedSearch>> byMinPay = new ConcurrentSkipListMap<>();
+
+    // searches without any criteria
+    private final Set<SavedSearch> matchAll = ConcurrentHashMap.newKeySet();
+
+    // searchID -> the bucket the search was filed under, used for removal
+    private final Map<Long, Set<SavedSearch>> anchors = new ConcurrentHashMap<>();
+
+    void add(SavedSearch search) {
+        remove(search.searchID());
+
+        Set<SavedSearch> bucket = anchorFor(search);
+        bucket.add(search);
+        anchors.put(search.searchID(), bucket);
+    }
+
+    void remove(Long searchID) {
+        Set<SavedSearch> bucket = anchors.remove(searchID);
+        if (bucket != null) {
+            bucket.removeIf(search -> search.searchID().equals(searchID));
+        }
+    }
+
+    int size() {
+        return anchors.size();
+    }
+
+    // returns every saved search whose criteria are all satisfied by the job entry
+    List<SavedSearch> match(JobEntry job) {
+        Set<String> tokens = tokenize(job.jobName() + " " + job.companyName());
+        List<SavedSearch> matches = new ArrayList<>();
+
+        for (String token : tokens) {
+            collect(byKeyword.get(token), job, tokens, matches);
+        }
+        collect(byLocation.get(normalize(job.jobLocation())), job, tokens, matches);
+        collect(byJobType.get(normalize(job.jobType())), job, tokens, matches);
+        for (Set<SavedSearch> bucket : byMinPay.headMap(job.jobPay(), true).values()) {
+            collect(bucket, job, tokens, matches);
+        }
+        collect(matchAll, job, tokens, matches);
+
+        return matches;
+    }
+
+    // the same result as match() without an index, by checking every search
+    static List<SavedSearch> scan(Iterable<SavedSearch> searches, JobEntry job) {
+        Set<String> tokens = tokenize(job.jobName() + " " + job.companyName());
+        List<SavedSearch> matches = new ArrayList<>();
+        for (SavedSearch search : searches) {
+            if (matches(search, job, tokens)) {
+                matches.add(search);
+            }
+        }
+        return matches;
+    }
+
+    // full (non-indexed) check of a single search, also used to verify candidates from the index
+    static boolean matches(SavedSearch search, JobEntry job, Set<String> jobTokens) {
+        if (search.jobType() != null && !normalize(search.jobType()).equals(normalize(job.jobType()))) {
+            return false;
+        }
+        if (search.jobLocation() != null && !normalize(search.jobLocation()).equals(normalize(job.jobLocation()))) {
+            return false;
+        }
+        if (search.minPay() != null && job.jobPay() < search.minPay()) {
+            return false;
+        }
+        return jobTokens.containsAll(tokenize(search.keywords()));
+    }
+
+    // lower-cased alphanumeric words, used for both keywords and job text so they compare equal
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void collect(Collection<SavedSearch> bucket, JobEntry job, Set<String> jobTokens, List<SavedSearch> matches) {
+        if (bucket == null) {
+            return;
+        }
+        for (SavedSearch search : bucket) {
+            if (matches(search, job, jobTokens)) {
+                matches.add(search);
+            }
+        }
+    }
+
+    // picks the most selective predicate: the keyword with the fewest searches already filed under it,
+    // then location (many distinct values), then job type (a handful of values), then pay floor
+    private Set<SavedSearch> anchorFor(SavedSearch search) {
+        Set<String> keywords = tokenize(search.keywords());
+        if (!keywords.isEmpty()) {
+            String best = null;
+            int bestSize = Integer.MAX_VALUE;
+            for (String keyword : keywords) {
+                Set<SavedSearch> bucket = byKeyword.get(keyword);
+                int size = (bucket == null) ? 0 : bucket.size();
+                if (size < bestSize) {
+                    best = keyword;
+                    bestSize = size;
+                }
+            }
+            return byKeyword.computeIfAbsent(best, key -> ConcurrentHashMap.newKeySet());
+        }
+        if (search.jobLocation() != null) {
+            return byLocation.computeIfAbsent(normalize(search.jobLocation()), key -> ConcurrentHashMap.newKeySet());
+        }
+        if (search.jobType() != null) {
+            return byJobType.computeIfAbsent(normalize(search.jobType()), key -> ConcurrentHashMap.newKeySet());
+        }
+        if (search.minPay() != null) {
+            return byMinPay.computeIfAbsent(search.minPay(), key -> ConcurrentHashMap.newKeySet());
+        }
+        return matchAll;
+    }
+}
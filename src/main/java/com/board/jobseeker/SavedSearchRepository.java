@@ -0,0 +1,14 @@
+package com.board.jobseeker;
+
+import java.util.List;
+
+import org.springframework.data.repository.CrudRepository;
+
+// saved searches are few per user and always loaded whole, so no paging here 
+interface SavedSearchRepository extends CrudRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByOwner(String owner); 
+
+    boolean existsBySearchIDAndOwner(Long searchID, String owner); 
+
+}
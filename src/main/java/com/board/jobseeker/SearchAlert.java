@@ -0,0 +1,16 @@
+package com.board.jobseeker;
+
+import org.springframework.data.annotation.Id;
+
+/// The SearchAlert data type records that a job entry matched a saved search:
+/// alertID - unique numeric identifier, increasing in the order alerts were raised 
+/// searchID - the saved search that matched 
+/// jobID - the job entry that was created or updated 
+/// owner - owner of the saved search, the user being alerted 
+
+public record SearchAlert (
+    @Id Long alertID, 
+    Long searchID, 
+    Long jobID, 
+    String owner) {
+}
@@ -0,0 +1,25 @@
+package com.board.jobseeker;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+interface SearchAlertRepository extends CrudRepository<SearchAlert, Long> {
+
+    // newest alerts for a user, backed by the (OWNER, ALERT_ID) index 
+    List<SearchAlert> findByOwner(String owner, Pageable pageable); 
+
+    @Modifying
+    @Query("DELETE FROM SEARCH_ALERT WHERE SEARCH_ID = :searchID")
+    void deleteBySearchID(@Param("searchID") Long searchID); 
+
+    // backed by the (JOB_ID) index 
+    @Modifying
+    @Query("DELETE FROM SEARCH_ALERT WHERE JOB_ID = :jobID")
+    void deleteByJobID(@Param("jobID") Long jobID); 
+
+}
@@ -2,7 +2,6 @@ package com.board.jobseeker;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +10,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 // @Configuration makes any beans in this class available in auto-config engine 
 @Configuration
@@ -18,13 +19,22 @@ public class SecurityConfig {
 
     // @Bean - expect a bean to config filter chain
     // TODO: enable CSRF when building web page 
+    // rate limiting is keyed by the authenticated user (or by IP for failed attempts): tokens are taken right after HTTP Basic 
+    // authentication, and a check right before it rejects users already over the limit without paying for a BCrypt check 
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http, RateLimiter rateLimiter) throws Exception {
+       RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter); 
+       BasicAuthenticationEntryPoint basicEntryPoint = new BasicAuthenticationEntryPoint(); 
+       basicEntryPoint.setRealmName("Realm"); 
+
        http
                 .authorizeHttpRequests(request -> request
                         .requestMatchers("/jobseeker/**")
                         .authenticated())
-                .httpBasic(Customizer.withDefaults())
+                .httpBasic(basic -> basic
+                        .authenticationEntryPoint(rateLimitFilter.entryPoint(basicEntryPoint)))
+                .addFilterBefore(rateLimitFilter, BasicAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter.afterAuthentication(), BasicAuthenticationFilter.class)
                 .csrf(csrf -> csrf.disable());
         return http.build();
    }
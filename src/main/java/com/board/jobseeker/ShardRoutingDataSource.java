@@ -0,0 +1,66 @@
+package com.board.jobseeker;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/// DataSource that hands out connections of the shard selected for the current thread 
+///     JobEntryShards.onShard selects the shard around each repository call, 
+///     with no shard selected (saved searches, alerts, dictionaries) connections come from shard 0 
+class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>(); 
+
+    private final List<DataSource> shards; 
+
+    ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards); 
+
+        Map<Object, Object> targets = new HashMap<>(); 
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard)); 
+        }
+        setTargetDataSources(targets); 
+        setDefaultTargetDataSource(shards.get(0)); 
+        afterPropertiesSet(); 
+    }
+
+    // runs the work with connections routed to the given shard, restoring the previous selection afterwards 
+    static <T> T onShard(int shard, Supplier<T> work) {
+        Integer previous = CURRENT_SHARD.get(); 
+        CURRENT_SHARD.set(shard); 
+        try {
+            return work.get(); 
+        } finally {
+            if (previous != null) {
+                CURRENT_SHARD.set(previous); 
+            }
+            else {
+                CURRENT_SHARD.remove(); 
+            }
+        }
+    }
+
+    List<DataSource> shards() {
+        return shards; 
+    }
+
+    // closes the shards' connection pools with the application context 
+    void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close(); 
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT_SHARD.get(); 
+    }
+}
@@ -0,0 +1,85 @@
+package com.board.jobseeker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+// job entries are spread over 'jobseeker.shards.count' databases, 1 (the default) keeps the regular spring.datasource 
+@Configuration
+public class ShardingConfig {
+
+    /// only with more than one shard: replaces the auto-configured DataSource with one routing between the shards 
+    ///     each shard's URL is 'jobseeker.shards.url' with {shard} replaced by its number and {random} by a per-run id, 
+    ///     except shard 0, which uses spring.datasource.url when set, so an existing single database becomes shard 0 as is 
+    ///     (as long as its owners are all routed to shard 0, JobEntryStore refuses to start otherwise) 
+    ///     other settings (driver, username, password, spring.datasource.hikari pool settings) come from spring.datasource 
+    ///     shard 0 is initialized like a single database (spring.sql.init or Flyway), the other shards get the same here 
+    ///     and, when new, their JOB_ID identity restarted at their shard prefix 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("${jobseeker.shards.count:1} > 1")
+    ShardRoutingDataSource dataSource(DataSourceProperties properties, Environment environment, 
+            @Value("${jobseeker.shards.count}") int count, 
+            @Value("${jobseeker.shards.url:jdbc:h2:mem:{random}-shard{shard};DB_CLOSE_DELAY=-1}") String urlTemplate, 
+            @Value("${spring.flyway.enabled:false}") boolean flywayEnabled) {
+        String random = UUID.randomUUID().toString(); 
+        List<DataSource> shards = new ArrayList<>(); 
+        for (int shard = 0; shard < count; shard++) {
+            String url = (shard == 0 && properties.getUrl() != null) 
+                    ? properties.getUrl() 
+                    : urlTemplate.replace("{shard}", String.valueOf(shard)).replace("{random}", random); 
+            DataSource dataSource = properties.initializeDataSourceBuilder().url(url).build(); 
+            if (dataSource instanceof HikariDataSource hikariDataSource) {
+                Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(hikariDataSource)); 
+                hikariDataSource.setPoolName("jobseeker-shard" + shard); 
+            }
+
+            if (shard > 0) {
+                boolean created = !hasJobEntryTable(dataSource); 
+                if (flywayEnabled) {
+                    Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate(); 
+                }
+                else if (created) {
+                    new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource); 
+                }
+
+                // only a new (empty) shard is renumbered, persistent shards keep their identity 
+                if (created) {
+                    new JdbcTemplate(dataSource).execute("ALTER TABLE JOB_ENTRY ALTER COLUMN JOB_ID RESTART WITH " + JobEntryShards.firstJobID(shard)); 
+                }
+            }
+            shards.add(dataSource); 
+        }
+        return new ShardRoutingDataSource(shards); 
+    }
+
+    private static boolean hasJobEntryTable(DataSource dataSource) {
+        Integer tables = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'JOB_ENTRY'", Integer.class); 
+        return tables != null && tables > 0; 
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    JobEntryShards jobEntryShards(DataSource dataSource) {
+        if (dataSource instanceof ShardRoutingDataSource routingDataSource) {
+            return new JobEntryShards(routingDataSource); 
+        }
+        return new JobEntryShards(dataSource); 
+    }
+}
@@ -0,0 +1,91 @@
+package com.board.jobseeker;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/// Bidirectional id <-> string cache over one dictionary table (ID INT, NAME VARCHAR UNIQUE)
+///     every distinct string is stored once in the database and once in memory, 
+///     rows mapped back to JobEntry all share that one canonical String instance instead of allocating copies 
+///     entries are never removed, dictionaries only hold low-cardinality values (companies, locations, job types, owners) 
+///     with several shards, ids are assigned by the first database and copied into the others under the same id, 
+///     so one cache serves every shard and ids compare (and sort) the same everywhere 
+class StringDictionary {
+
+    private final JdbcTemplate jdbcTemplate; 
+    private final List<JdbcTemplate> replicas; 
+    private final String table; 
+
+    private final ConcurrentHashMap<String, Integer> idsByName = new ConcurrentHashMap<>(); 
+    private final ConcurrentHashMap<Integer, String> namesById = new ConcurrentHashMap<>(); 
+
+    // ids known to be present in every replica 
+    private final Set<Integer> replicated = ConcurrentHashMap.newKeySet(); 
+
+    StringDictionary(JdbcTemplate jdbcTemplate, String table) {
+        this(jdbcTemplate, List.of(), table); 
+    }
+
+    StringDictionary(JdbcTemplate jdbcTemplate, List<JdbcTemplate> replicas, String table) {
+        this.jdbcTemplate = jdbcTemplate; 
+        this.replicas = List.copyOf(replicas); 
+        this.table = table; 
+    }
+
+    // returns the id for the name, adding it to the dictionary table (and every replica) on first use 
+    int idFor(String name) {
+        Integer id = find(name); 
+        if (id == null) {
+            // MERGE keeps concurrent inserts of the same name from failing on the UNIQUE constraint 
+            jdbcTemplate.update("MERGE INTO " + table + " (NAME) KEY (NAME) VALUES (?)", name); 
+            id = find(name); 
+        }
+
+        // copied before the id is handed out, so a row referencing it never reaches a replica without it 
+        if (!replicas.isEmpty() && !replicated.contains(id)) {
+            for (JdbcTemplate replica : replicas) {
+                replica.update("MERGE INTO " + table + " (ID, NAME) KEY (ID) VALUES (?, ?)", id, nameFor(id)); 
+            }
+            replicated.add(id); 
+        }
+        return id; 
+    }
+
+    // returns the id for the name, or null if the name was never stored (nothing is inserted) 
+    Integer find(String name) {
+        Integer id = idsByName.get(name); 
+        if (id != null) {
+            return id; 
+        }
+
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT ID FROM " + table + " WHERE NAME = ?", Integer.class, name); 
+        if (ids.isEmpty()) {
+            return null; 
+        }
+        return cache(ids.get(0), name); 
+    }
+
+    // returns the canonical String instance for the id 
+    String nameFor(int id) {
+        String name = namesById.get(id); 
+        if (name != null) {
+            return name; 
+        }
+
+        name = jdbcTemplate.queryForObject("SELECT NAME FROM " + table + " WHERE ID = ?", String.class, id); 
+        cache(id, name); 
+        return namesById.get(id); 
+    }
+
+    int size() {
+        return namesById.size(); 
+    }
+
+    private Integer cache(Integer id, String name) {
+        String canonical = namesById.putIfAbsent(id, name); 
+        idsByName.putIfAbsent((canonical != null) ? canonical : name, id); 
+        return id; 
+    }
+}
@@ -0,0 +1,54 @@
+package com.board.jobseeker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/// Lock-free token bucket stored as a single timestamp
+///     instead of (tokens, lastRefill) the bucket keeps the time at which it will be full again,
+///     taking a token pushes that time forward by one refill interval and the bucket is empty once it is 'capacity'
+///     intervals ahead of now; a single CAS on one long updates it, so no locks and no allocation per request
+class TokenBucket {
+
+    private final long capacity; 
+    private final long nanosPerToken; 
+
+    // time (System.nanoTime scale) at which the bucket is full again, anything in the past means full 
+    private final AtomicLong fullAt; 
+
+    TokenBucket(long capacity, double tokensPerSecond, long now) {
+        this.capacity = capacity; 
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / tokensPerSecond)); 
+        this.fullAt = new AtomicLong(now); 
+    }
+
+    /// takes one token
+    /// returns: 
+    ///     0 - token taken, request may proceed 
+    ///     otherwise - nanoseconds until a token will be available, nothing was taken 
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get(); 
+            long next = Math.max(current, now) + nanosPerToken; 
+            long excess = next - now - capacity * nanosPerToken; 
+            if (excess > 0) {
+                return excess; 
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0; 
+            }
+        }
+    }
+
+    /// checks for a token without taking it 
+    /// returns: 
+    ///     0 - a token is available 
+    ///     otherwise - nanoseconds until a token will be available 
+    long peek(long now) {
+        long excess = Math.max(fullAt.get(), now) + nanosPerToken - now - capacity * nanosPerToken; 
+        return Math.max(0, excess); 
+    }
+
+    // true once the bucket has been full for at least idleNanos, i.e. forgetting it loses nothing 
+    boolean isIdle(long now, long idleNanos) {
+        return now - fullAt.get() >= idleNanos; 
+    }
+}
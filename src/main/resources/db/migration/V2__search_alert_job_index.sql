@@ -0,0 +1,2 @@
+/* alerts are deleted together with their job entry */
+CREATE INDEX SEARCH_ALERT_JOB_IDX ON SEARCH_ALERT (JOB_ID);
@@ -0,0 +1,8 @@
+/* with several shards, the fingerprints of all shards' job entries (kept on shard 0, see ContentFingerprints), 
+   so duplicate postings are rejected across shards and not only within one */
+CREATE TABLE CONTENT_FINGERPRINT (
+    CONTENT_HASH VARBINARY(32) PRIMARY KEY,
+    JOB_ID BIGINT -- NULL while the claiming insert is in progress 
+);
+
+CREATE INDEX CONTENT_FINGERPRINT_JOB_IDX ON CONTENT_FINGERPRINT (JOB_ID);
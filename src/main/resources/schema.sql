@@ -1,16 +1,87 @@
 /* Database Schema --> template for data storage*/
+/* in-memory databases run this file on every start, the "durable" profile applies db/migration instead */
+/* NOTE: schema changes go into a new db/migration/V<n>__*.sql file AND into this file */
+
+/* dictionary tables: each distinct company, location, job type and owner name is stored once, 
+   JOB_ENTRY refers to them by INT id (see StringDictionary) */
+CREATE TABLE DICT_COMPANY (
+    ID INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    NAME VARCHAR(50) NOT NULL UNIQUE
+);
+
+CREATE TABLE DICT_LOCATION (
+    ID INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    NAME VARCHAR(50) NOT NULL UNIQUE
+);
+
+CREATE TABLE DICT_JOB_TYPE (
+    ID INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    NAME VARCHAR(30) NOT NULL UNIQUE
+);
+
+CREATE TABLE DICT_OWNER (
+    ID INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    NAME VARCHAR(256) NOT NULL UNIQUE
+);
+
 CREATE TABLE JOB_ENTRY (
     JOB_ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
 
     JOB_NAME VARCHAR(50) NOT NULL,
-    COMPANY_NAME VARCHAR(50) NOT NULL, 
+    COMPANY_ID INT NOT NULL REFERENCES DICT_COMPANY (ID), 
     POST_DATE DATE NOT NULL,
     CLOSE_DATE DATE NOT NULL,
-    JOB_LOCATION VARCHAR(50) NOT NULL,
+    JOB_LOCATION_ID INT NOT NULL REFERENCES DICT_LOCATION (ID),
     JOB_DURATION INT NOT NULL, -- '0' for indefinite, e.g. full-time work
-    JOB_TYPE VARCHAR(30) NOT NULL, 
+    JOB_TYPE_ID INT NOT NULL REFERENCES DICT_JOB_TYPE (ID), 
     JOB_PAY INT NOT NULL, -- TODO: pay range?
     JOB_LINK VARCHAR(100) NOT NULL,
-    OWNER VARCHAR(256) NOT NULL
+    OWNER_ID INT NOT NULL REFERENCES DICT_OWNER (ID),
+
+    -- SHA-256 fingerprint of the posting's content, computed by JobEntryStore.fingerprint 
+    CONTENT_HASH VARBINARY(32) NOT NULL
     
 );
+
+/* duplicate postings (same company, job name, location and link) are rejected with a single index lookup */
+CREATE UNIQUE INDEX JOB_ENTRY_CONTENT_IDX ON JOB_ENTRY (CONTENT_HASH);
+
+/* owner-scoped lookups (ownership checks, "my postings" listing) seek on (OWNER_ID, JOB_ID) instead of scanning */
+CREATE INDEX JOB_ENTRY_OWNER_IDX ON JOB_ENTRY (OWNER_ID, JOB_ID);
+
+/* with several shards, the fingerprints of all shards' job entries (kept on shard 0, see ContentFingerprints), 
+   so duplicate postings are rejected across shards and not only within one */
+CREATE TABLE CONTENT_FINGERPRINT (
+    CONTENT_HASH VARBINARY(32) PRIMARY KEY,
+    JOB_ID BIGINT -- NULL while the claiming insert is in progress 
+);
+
+CREATE INDEX CONTENT_FINGERPRINT_JOB_IDX ON CONTENT_FINGERPRINT (JOB_ID);
+
+/* saved searches, every NULL criterion matches anything */
+CREATE TABLE SAVED_SEARCH (
+    SEARCH_ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    OWNER VARCHAR(256) NOT NULL,
+    JOB_TYPE VARCHAR(30), 
+    JOB_LOCATION VARCHAR(50),
+    MIN_PAY INT, 
+    KEYWORDS VARCHAR(200) -- space separated, all must appear in the job name or company name 
+);
+
+CREATE INDEX SAVED_SEARCH_OWNER_IDX ON SAVED_SEARCH (OWNER, SEARCH_ID);
+
+/* one row per (saved search, job entry) match, read by the search owner */
+CREATE TABLE SEARCH_ALERT (
+    ALERT_ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    SEARCH_ID BIGINT NOT NULL, 
+    JOB_ID BIGINT NOT NULL, 
+    OWNER VARCHAR(256) NOT NULL
+);
+
+CREATE UNIQUE INDEX SEARCH_ALERT_MATCH_IDX ON SEARCH_ALERT (SEARCH_ID, JOB_ID);
+CREATE INDEX SEARCH_ALERT_OWNER_IDX ON SEARCH_ALERT (OWNER, ALERT_ID);
+
+/* alerts are deleted together with their job entry */
+CREATE INDEX SEARCH_ALERT_JOB_IDX ON SEARCH_ALERT (JOB_ID);
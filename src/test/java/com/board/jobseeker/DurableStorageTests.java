@@ -0,0 +1,70 @@
+package com.board.jobseeker;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("durable")
+// the file database stays open for the cached context, close it once the class is done
+@DirtiesContext
+class DurableStorageTests {
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	// a fresh storage directory per run, so Flyway starts from an empty database
+	@DynamicPropertySource
+	static void storageDir(DynamicPropertyRegistry registry) throws IOException {
+		Path dir = Files.createTempDirectory("jobseeker-durable");
+		registry.add("jobseeker.storage.dir", dir::toString);
+	}
+
+	/// Description : the durable profile stores job entries in a pooled, file-backed H2 database created by Flyway
+	/// Expect : schema version 1 is applied, a posted entry can be read back, connections come from the Hikari pool
+	@Test
+	void storesJobEntriesInMigratedFileDatabase() {
+		Integer applied = new JdbcTemplate(dataSource).queryForObject(
+				"SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"version\" = '1' AND \"success\" = TRUE", Integer.class);
+		assertThat(applied).isEqualTo(1);
+		assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+		assertThat(((HikariDataSource) dataSource).getJdbcUrl()).startsWith("jdbc:h2:file:");
+
+		JobEntry newEntry = new JobEntry("Data Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 1000, "https://meta.com", null, null);
+		ResponseEntity<Void> created = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", newEntry, Void.class);
+		assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+		URI location = created.getHeaders().getLocation();
+		ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity(location, String.class);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+		DocumentContext documentContext = JsonPath.parse(response.getBody());
+		String jobName = documentContext.read("$.jobName");
+		assertThat(jobName).isEqualTo("Data Intern");
+	}
+}
@@ -0,0 +1,44 @@
+package com.board.jobseeker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.LocalDate;
+
+class IdempotencyCacheTests {
+
+    private static final JobEntry REQUEST = new JobEntry("Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 1000, "https://meta.com", null, null); 
+
+    // at the size bound the oldest completed key is evicted, never one still in progress (PASSING test)
+    @Test
+    void inProgressKeysAreNotEvicted() {
+        IdempotencyCache cache = new IdempotencyCache(2, 60_000); 
+
+        assertThat(cache.begin("miles1", "a", REQUEST)).isNull(); 
+        assertThat(cache.begin("miles1", "b", REQUEST)).isNull(); 
+        cache.complete("miles1", "b", URI.create("/jobseeker/2")); 
+
+        // "b" is completed, so it makes room although "a" is older 
+        assertThat(cache.begin("miles1", "c", REQUEST)).isNull(); 
+        assertThat(cache.begin("miles1", "a", REQUEST).inProgress()).isTrue(); 
+        assertThat(cache.size()).isEqualTo(2); 
+    }
+
+    // when every slot is in progress nothing is claimed, the caller is told the cache is full (PASSING test)
+    @Test
+    void fullOfInProgressKeys() {
+        IdempotencyCache cache = new IdempotencyCache(2, 60_000); 
+        cache.begin("miles1", "a", REQUEST); 
+        cache.begin("miles1", "b", REQUEST); 
+
+        assertThat(cache.begin("miles1", "c", REQUEST)).isSameAs(IdempotencyCache.FULL); 
+        assertThat(cache.size()).isEqualTo(2); 
+
+        // once one finishes its slot can be reused 
+        cache.complete("miles1", "a", URI.create("/jobseeker/1")); 
+        assertThat(cache.begin("miles1", "c", REQUEST)).isNull(); 
+        assertThat(cache.begin("miles1", "b", REQUEST).inProgress()).isTrue(); 
+    }
+}
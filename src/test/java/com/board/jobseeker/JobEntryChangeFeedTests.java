@@ -0,0 +1,173 @@
+package com.board.jobseeker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	// a tiny ring, so a handful of events laps a disconnected subscriber
+	properties = "jobseeker.feed.capacity=4"
+)
+// every test starts without subscribers and with an empty ring
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class JobEntryChangeFeedTests {
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private JobEntryChangeFeed changeFeed;
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@BeforeEach
+	void setUp() {
+		restTemplate.getRestTemplate().setRequestFactory(
+			new HttpComponentsClientHttpRequestFactory()
+		);
+	}
+
+	// opens /jobseeker/feed and waits until the subscription is registered, so no event published afterwards is missed
+	private Stream<String> subscribe(String lastEventID, int expectedSubscribers) throws Exception {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/jobseeker/feed"))
+				.header("Accept", "text/event-stream")
+				.header("Authorization", "Basic " + Base64.getEncoder().encodeToString("miles1:password123".getBytes(StandardCharsets.UTF_8)));
+		if (lastEventID != null) {
+			request.header("Last-Event-ID", lastEventID);
+		}
+		CompletableFuture<HttpResponse<Stream<String>>> response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines());
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (changeFeed.subscriberCount() < expectedSubscribers) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+		return response.thenApply(HttpResponse::body).get(10, TimeUnit.SECONDS);
+	}
+
+	// reads the next event (id, event and data fields), skipping keepalive comments
+	private static Map<String, String> nextEvent(Iterator<String> lines) throws Exception {
+		return CompletableFuture.supplyAsync(() -> {
+			Map<String, String> fields = new HashMap<>();
+			while (lines.hasNext()) {
+				String line = lines.next();
+				if (line.isEmpty()) {
+					if (!fields.isEmpty()) {
+						return fields;
+					}
+					continue;
+				}
+				if (line.startsWith(":")) {
+					continue;
+				}
+				int colon = line.indexOf(':');
+				fields.put(line.substring(0, colon), line.substring(colon + 1));
+			}
+			return fields;
+		}).get(10, TimeUnit.SECONDS);
+	}
+
+	private URI post(String jobName) {
+		JobEntry newEntry = new JobEntry(jobName, "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 1000, "https://meta.com/feed", null, null);
+		ResponseEntity<Void> response = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", newEntry, Void.class);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		return response.getHeaders().getLocation();
+	}
+
+	/// Request Type : GET (Server-Sent Events)
+	/// Description : a subscriber receives the creation and deletion of a job entry as they happen
+	/// Expect : a "created" event carrying the new entry, then a "deleted" event with the same jobID and a higher id
+	@Test
+	void streamsCreatedAndDeletedEvents() throws Exception {
+		try (Stream<String> feed = subscribe(null, 1)) {
+			Iterator<String> lines = feed.iterator();
+
+			URI location = post("Feed Intern");
+			Map<String, String> created = nextEvent(lines);
+			assertThat(created.get("event")).isEqualTo("created");
+			assertThat(created.get("data")).contains("\"jobName\":\"Feed Intern\"");
+
+			ResponseEntity<Void> delete = restTemplate.withBasicAuth("miles1", "password123").exchange(location, HttpMethod.DELETE, null, Void.class);
+			assertThat(delete.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+			Map<String, String> deleted = nextEvent(lines);
+			assertThat(deleted.get("event")).isEqualTo("deleted");
+			String jobID = location.getPath().substring(location.getPath().lastIndexOf('/') + 1);
+			assertThat(deleted.get("data")).contains("\"jobID\":" + jobID);
+			assertThat(Long.parseLong(deleted.get("id"))).isGreaterThan(Long.parseLong(created.get("id")));
+		}
+	}
+
+	/// Request Type : GET (Server-Sent Events) with Last-Event-ID
+	/// Description : a client reconnecting with the id of the last event it saw gets the events it missed
+	/// Expect : the entry created while disconnected is replayed as the first event, with the next id
+	@Test
+	void resumesFromLastEventID() throws Exception {
+		String lastEventID;
+		try (Stream<String> feed = subscribe(null, 1)) {
+			post("Resume Intern");
+			lastEventID = nextEvent(feed.iterator()).get("id");
+		}
+
+		// the server notices the closed connection on its next write, the missed event is published meanwhile
+		post("Missed Intern");
+
+		try (Stream<String> feed = subscribe(lastEventID, 1)) {
+			Map<String, String> missed = nextEvent(feed.iterator());
+			assertThat(missed.get("event")).isEqualTo("created");
+			assertThat(missed.get("id")).isEqualTo(String.valueOf(Long.parseLong(lastEventID) + 1));
+			assertThat(missed.get("data")).contains("\"jobName\":\"Missed Intern\"");
+		}
+	}
+
+	/// Request Type : GET (Server-Sent Events) with Last-Event-ID
+	/// Description : when the missed events have already been overwritten in the ring, the client must re-fetch the board
+	/// Expect : a "reset" event first, then new events continue normally
+	@Test
+	void resetWhenLastEventIDIsGone() throws Exception {
+		// more events than the ring holds (capacity 4), so event 1 is overwritten
+		for (long jobID = 1; jobID <= 6; jobID++) {
+			changeFeed.publish(JobEntryEvent.Type.DELETED, jobID, null);
+		}
+
+		try (Stream<String> feed = subscribe("1", 1)) {
+			Iterator<String> lines = feed.iterator();
+			Map<String, String> reset = nextEvent(lines);
+			assertThat(reset.get("event")).isEqualTo("reset");
+			assertThat(reset.get("id")).isEqualTo("6");
+
+			changeFeed.publish(JobEntryEvent.Type.DELETED, 7L, null);
+			Map<String, String> next = nextEvent(lines);
+			assertThat(next.get("event")).isEqualTo("deleted");
+			assertThat(next.get("id")).isEqualTo("7");
+		}
+	}
+}
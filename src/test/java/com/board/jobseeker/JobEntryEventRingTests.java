@@ -0,0 +1,63 @@
+package com.board.jobseeker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobEntryEventRingTests {
+
+    // published events are readable by sequence, unpublished sequences return null (PASSING test)
+    @Test
+    void readPublishedEvents() {
+        JobEntryEventRing ring = new JobEntryEventRing(4); 
+        long first = ring.head(); 
+
+        ring.publish(JobEntryEvent.Type.CREATED, 20L, null); 
+        ring.publish(JobEntryEvent.Type.DELETED, 20L, null); 
+
+        assertThat(ring.get(first).type()).isEqualTo(JobEntryEvent.Type.CREATED); 
+        assertThat(ring.get(first + 1).type()).isEqualTo(JobEntryEvent.Type.DELETED); 
+        assertThat(ring.get(first + 2)).isNull(); 
+        assertThat(ring.isOverwritten(first + 2)).isFalse(); 
+        assertThat(ring.head()).isEqualTo(first + 2); 
+    }
+
+    // once the ring wraps, a reader still pointing at the oldest events is reported as lapped (PASSING test)
+    @Test
+    void lappedReaderIsDetected() {
+        JobEntryEventRing ring = new JobEntryEventRing(4); 
+        long first = ring.head(); 
+
+        for (int i = 0; i < 6; i++) {
+            ring.publish(JobEntryEvent.Type.UPDATED, 21L, null); 
+        }
+
+        assertThat(ring.get(first)).isNull(); 
+        assertThat(ring.isOverwritten(first)).isTrue(); 
+        assertThat(ring.isOverwritten(first + 1)).isTrue(); 
+        assertThat(ring.get(first + 2).sequence()).isEqualTo(first + 2); 
+        assertThat(ring.get(first + 5).sequence()).isEqualTo(first + 5); 
+    }
+
+    // a writer that stalled after claiming its sequence must not overwrite the newer event of a later lap (PASSING test)
+    @Test
+    void staleWriteDoesNotOverwriteNewerEvent() {
+        JobEntryEventRing ring = new JobEntryEventRing(4); 
+        long first = ring.head(); 
+
+        for (int i = 0; i < 5; i++) {
+            ring.publish(JobEntryEvent.Type.UPDATED, 22L, null); 
+        }
+        ring.store(new JobEntryEvent(first, JobEntryEvent.Type.DELETED, 22L, null)); 
+
+        assertThat(ring.get(first)).isNull(); 
+        assertThat(ring.get(first + 4).type()).isEqualTo(JobEntryEvent.Type.UPDATED); 
+    }
+
+    // capacity must be a power of two for the index mask (FAILING test)
+    @Test
+    void rejectNonPowerOfTwoCapacity() {
+        assertThatThrownBy(() -> new JobEntryEventRing(100)).isInstanceOf(IllegalArgumentException.class); 
+    }
+}
@@ -144,6 +144,31 @@ class JobseekerAPITests {
 		assertThat(jobPay).isEqualTo(5000);
 	}
 
+	/// Request Type : GET 
+	/// Description : sorting by a string field orders alphabetically, even though the field is stored as a dictionary id 
+	/// Expect : "200 OK", companies Intel, LinkedIn, Nvidia (stored in the order LinkedIn, Nvidia, Intel), locations descending 
+	@Test
+	void getPageSortedByStringField() {
+		ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker?sort=companyName", String.class); 
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK); 
+
+		JSONArray companyNames = JsonPath.parse(response.getBody()).read("$..companyName"); 
+		assertThat(companyNames).containsExactly("Intel", "LinkedIn", "Nvidia"); 
+
+		response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker?sort=jobLocation,desc", String.class); 
+		JSONArray jobLocations = JsonPath.parse(response.getBody()).read("$..jobLocation"); 
+		assertThat(jobLocations).containsExactly("Vancouver", "Seattle", "Santa Clara"); 
+	}
+
+	/// Request Type : GET 
+	/// Description : GET request for page of job entries sorted by a property job entries do not have 
+	/// Expect : "400 BAD_REQUEST" 
+	@Test
+	void getPageSortedByUnknownField() {
+		ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker?sort=salary", String.class); 
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST); 
+	}
+
 	/// Request Type : GET 
 	/// Description : correct GET request for page of job entries, PARAMETERS MISSING (test for default)
 	/// Expect : "200 OK", default sorting should be ascending order of jobID
@@ -161,6 +186,56 @@ class JobseekerAPITests {
 		assertThat(jobPays).containsExactly(3000,4000,5000);
 	}
 
+	/// Request Type : GET 
+	/// Description : owner-scoped listing should only return job entries posted by the requesting user 
+	/// Expect : "200 OK", miles1 only owns jobID 20, job-searcher owns nothing 
+	@Test
+	void getMyJobEntries() {
+		ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/mine", String.class); 
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK); 
+
+		DocumentContext documentContext = JsonPath.parse(response.getBody());
+		JSONArray jobIDs = documentContext.read("$..jobID"); 
+		assertThat(jobIDs).containsExactly(20); 
+
+		response = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").getForEntity("/jobseeker/mine", String.class); 
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK); 
+
+		JSONArray page = JsonPath.parse(response.getBody()).read("$[*]"); 
+		assertThat(page).isEmpty(); 
+	}
+
+	/// Request Type : GET 
+	/// Description : owner-scoped listing should page with the 'after' cursor in both sort directions 
+	/// Expect : "200 OK", each page continues strictly after the cursor 
+	/// NOTE : creates new job entries, needs @DirtiesContext
+	@DirtiesContext
+	@Test
+	void getMyJobEntriesWithCursor() {
+		JobEntry newEntry = new JobEntry("Marketing Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 12000, "https://meta.com", null, null); 
+		JobEntry otherEntry = new JobEntry("Sales Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 12000, "https://meta.com", null, null); 
+		restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", newEntry, Void.class); 
+		restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", otherEntry, Void.class); 
+
+		ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/mine?size=2", String.class); 
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK); 
+
+		JSONArray firstPage = JsonPath.parse(response.getBody()).read("$..jobID"); 
+		assertThat(firstPage).hasSize(2); 
+		assertThat(firstPage.get(0)).isEqualTo(20); 
+		Number lastSeen = (Number) firstPage.get(1); 
+
+		response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/mine?size=2&after=" + lastSeen, String.class); 
+		JSONArray secondPage = JsonPath.parse(response.getBody()).read("$..jobID"); 
+		assertThat(secondPage).hasSize(1); 
+		assertThat(((Number) secondPage.get(0)).longValue()).isGreaterThan(lastSeen.longValue()); 
+
+		// descending order walks the same entries backwards from the cursor 
+		response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/mine?sort=jobID,desc&after=" + lastSeen, String.class); 
+		JSONArray descPage = JsonPath.parse(response.getBody()).read("$..jobID"); 
+		assertThat(descPage).containsExactly(20); 
+	}
+
 	/// Request Type : POST 
 	/// Description : non-failing POST request to API, database should update 
 	/// Expect : "201 CREATED", GET request to new resource location to be "200 OK", with ownership belonging to poster 
@@ -193,6 +268,90 @@ class JobseekerAPITests {
 
 	}
 
+	/// Request Type : POST 
+	/// Description : retrying a POST with the same Idempotency-Key should replay the first response instead of inserting again 
+	/// Expect : "201 CREATED" with the same location twice, "422 UNPROCESSABLE_ENTITY" when the key is reused with a different body 
+	/// NOTE : creates new job entry, needs @DirtiesContext
+	@DirtiesContext
+	@Test
+	void createJobEntryIdempotent() {
+		JobEntry newEntry = new JobEntry("Marketing Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 12000, "https://meta.com", null, null); 
+		HttpHeaders headers = new HttpHeaders(); 
+		headers.set("Idempotency-Key", "retry-1"); 
+
+		ResponseEntity<Void> first = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", new HttpEntity<>(newEntry, headers), Void.class); 
+		ResponseEntity<Void> retry = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", new HttpEntity<>(newEntry, headers), Void.class); 
+
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED); 
+		assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED); 
+		assertThat(retry.getHeaders().getLocation()).isEqualTo(first.getHeaders().getLocation()); 
+
+		JobEntry changedEntry = new JobEntry("Sales Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 12000, "https://meta.com", null, null); 
+		ResponseEntity<Void> reused = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", new HttpEntity<>(changedEntry, headers), Void.class); 
+		assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY); 
+
+		ResponseEntity<String> mine = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/mine", String.class); 
+		JSONArray jobIDs = JsonPath.parse(mine.getBody()).read("$..jobID"); 
+		assertThat(jobIDs).hasSize(2); 
+	}
+
+	/// Request Type : POST 
+	/// Description : posting the same company, job name, location and link as an existing job entry should be rejected 
+	/// Expect : "409 CONFLICT" with location header pointing at the existing job entry (jobID 21) 
+	@Test
+	void createDuplicateJobEntry() {
+		JobEntry duplicate = new JobEntry("firmware testing", "NVIDIA", LocalDate.of(2025, 10, 1), LocalDate.of(2026, 1, 31), " Santa Clara", 6, "Full-Time", 9000, "https://nvidia.careers.com", null, null); 
+		ResponseEntity<Void> response = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", duplicate, Void.class); 
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT); 
+		assertThat(response.getHeaders().getLocation().getPath()).isEqualTo("/jobseeker/21"); 
+	}
+
+	/// Request Type : POST (saved search), POST (job entry), GET (alerts)
+	/// Description : a new job entry matching a user's saved search should raise an alert for that user only 
+	/// Expect : "201 CREATED" for both posts, one alert for job-searcher pointing at the new job entry, 
+	///          still one after a matching update, none after the job entry is deleted 
+	/// NOTE : creates new saved search and job entry, needs @DirtiesContext
+	@DirtiesContext
+	@Test
+	void savedSearchAlertOnNewJobEntry() {
+		SavedSearch search = new SavedSearch(null, null, "internship", "Texas", 10000, "marketing"); 
+		ResponseEntity<Void> searchResponse = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").postForEntity("/jobseeker/searches", search, Void.class); 
+		assertThat(searchResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED); 
+
+		JobEntry matching = new JobEntry("Marketing Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 12000, "https://meta.com", null, null); 
+		JobEntry underpaid = new JobEntry("Marketing Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 9000, "https://meta.com/careers", null, null); 
+		ResponseEntity<Void> jobResponse = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", matching, Void.class); 
+		assertThat(jobResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED); 
+		restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", underpaid, Void.class); 
+
+		ResponseEntity<String> jobEntry = restTemplate.withBasicAuth("miles1", "password123").getForEntity(jobResponse.getHeaders().getLocation(), String.class); 
+		Number jobID = JsonPath.parse(jobEntry.getBody()).read("$.jobID"); 
+
+		ResponseEntity<String> alerts = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").getForEntity("/jobseeker/searches/alerts", String.class); 
+		assertThat(alerts.getStatusCode()).isEqualTo(HttpStatus.OK); 
+		JSONArray alertedJobIDs = JsonPath.parse(alerts.getBody()).read("$..jobID"); 
+		assertThat(alertedJobIDs).containsExactly(jobID); 
+
+		alerts = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/searches/alerts", String.class); 
+		JSONArray otherAlerts = JsonPath.parse(alerts.getBody()).read("$[*]"); 
+		assertThat(otherAlerts).isEmpty(); 
+
+		// an update that still matches does not raise a second alert 
+		JobEntry raised = new JobEntry("Marketing Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 13000, "https://meta.com", null, null); 
+		ResponseEntity<Void> putResponse = restTemplate.withBasicAuth("miles1", "password123").exchange(jobResponse.getHeaders().getLocation(), HttpMethod.PUT, new HttpEntity<>(raised), Void.class); 
+		assertThat(putResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+		alerts = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").getForEntity("/jobseeker/searches/alerts", String.class); 
+		alertedJobIDs = JsonPath.parse(alerts.getBody()).read("$..jobID"); 
+		assertThat(alertedJobIDs).containsExactly(jobID); 
+
+		// deleting the job entry removes its alerts 
+		ResponseEntity<Void> deleteResponse = restTemplate.withBasicAuth("miles1", "password123").exchange(jobResponse.getHeaders().getLocation(), HttpMethod.DELETE, null, Void.class); 
+		assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+		alerts = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").getForEntity("/jobseeker/searches/alerts", String.class); 
+		assertThat((JSONArray) JsonPath.parse(alerts.getBody()).read("$[*]")).isEmpty(); 
+	}
+
 	/// Request Type : PUT 
 	/// Description : non-failing PUT request, specified record should update with new job entry record 
 	/// Expect : "204 NO_CONTENT", GET request comparison should contain new value 
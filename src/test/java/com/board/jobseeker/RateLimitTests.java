@@ -0,0 +1,120 @@
+package com.board.jobseeker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	// tiny buckets that barely refill, so the limits are hit within a single test 
+	properties = {
+		"jobseeker.rate-limit.write.capacity=2",
+		"jobseeker.rate-limit.write.per-second=0.01",
+		"jobseeker.rate-limit.unauthenticated.capacity=2",
+		"jobseeker.rate-limit.unauthenticated.per-second=0.01"
+	}
+)
+// every test starts with full buckets, the tests share one client IP 
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RateLimitTests {
+	@Autowired 
+	private TestRestTemplate restTemplate; 
+
+	@BeforeEach
+	void setUp() {
+		restTemplate.getRestTemplate().setRequestFactory(
+			new HttpComponentsClientHttpRequestFactory()
+		);
+	}
+
+	/// Request Type : DELETE 
+	/// Description : a user exceeding the write limit should be rejected, while reads and other users are unaffected 
+	/// Expect : "404 NOT_FOUND" twice, then "429 TOO_MANY_REQUESTS" with Retry-After 
+	@Test
+	void writeLimitPerUser() {
+		for (int i = 0; i < 2; i++) {
+			ResponseEntity<Void> response = restTemplate.withBasicAuth("miles1", "password123")
+					.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND); 
+		}
+
+		ResponseEntity<Void> limited = restTemplate.withBasicAuth("miles1", "password123")
+				.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+		assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS); 
+		assertThat(Long.parseLong(limited.getHeaders().getFirst("Retry-After"))).isPositive(); 
+
+		// reads have their own bucket, and other users have their own buckets 
+		ResponseEntity<String> read = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/21", String.class); 
+		assertThat(read.getStatusCode()).isEqualTo(HttpStatus.OK); 
+
+		ResponseEntity<Void> otherUser = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted")
+				.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+		assertThat(otherUser.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND); 
+	}
+
+	/// Request Type : GET 
+	/// Security : AUTHENTICATION 
+	/// Description : repeated bad credentials from one IP should be rate limited 
+	/// Expect : "401 UNAUTHORIZED" twice, then "429 TOO_MANY_REQUESTS" 
+	@Test
+	void unauthenticatedLimitPerIP() {
+		for (int i = 0; i < 2; i++) {
+			ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "BAD_PASS").getForEntity("/jobseeker", String.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED); 
+		}
+
+		ResponseEntity<String> limited = restTemplate.withBasicAuth("miles1", "BAD_PASS").getForEntity("/jobseeker", String.class); 
+		assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS); 
+		assertThat(limited.getHeaders().getFirst("Retry-After")).isNotNull(); 
+	}
+
+	/// Request Type : DELETE 
+	/// Security : AUTHENTICATION 
+	/// Description : a user over the limit is turned away before the password is checked (no BCrypt work) 
+	/// Expect : "429 TOO_MANY_REQUESTS" for an over-limit request even with a wrong password, instead of "401 UNAUTHORIZED" 
+	@Test
+	void limitCheckedBeforeAuthentication() {
+		for (int i = 0; i < 2; i++) {
+			ResponseEntity<Void> response = restTemplate.withBasicAuth("miles1", "password123")
+					.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND); 
+		}
+
+		ResponseEntity<Void> limited = restTemplate.withBasicAuth("miles1", "BAD_PASS")
+				.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+		assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS); 
+	}
+
+	/// Request Type : DELETE 
+	/// Security : AUTHENTICATION 
+	/// Description : requests claiming another user's name with a wrong password must not spend that user's tokens, 
+	///               and the failures limit only further failures from the IP, not valid logins from it 
+	/// Expect : "401 UNAUTHORIZED" twice, then "429 TOO_MANY_REQUESTS" for the wrong password, 
+	///          while the real user still gets their full write budget ("404 NOT_FOUND" twice) 
+	@Test
+	void wrongPasswordDoesNotSpendUserTokens() {
+		for (int i = 0; i < 2; i++) {
+			ResponseEntity<Void> response = restTemplate.withBasicAuth("miles1", "BAD_PASS")
+					.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED); 
+		}
+		ResponseEntity<Void> guessing = restTemplate.withBasicAuth("miles1", "BAD_PASS")
+				.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+		assertThat(guessing.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS); 
+
+		for (int i = 0; i < 2; i++) {
+			ResponseEntity<Void> response = restTemplate.withBasicAuth("miles1", "password123")
+					.exchange("/jobseeker/99999", HttpMethod.DELETE, null, Void.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND); 
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.board.jobseeker;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Throughput benchmark for reverse matching at 1M saved searches
+///     tagged "benchmark", so it is skipped by 'test' and run with './gradlew benchmark'
+///     compares the index against checking every saved search, results are printed to standard out
+@Tag("benchmark")
+class SavedSearchIndexBenchmark {
+
+    private static final int SEARCHES = 1_000_000; 
+    private static final int JOBS = 20_000; 
+
+    @Test
+    void percolateOneMillionSavedSearches() {
+        Random random = new Random(7); 
+        String[] vocabulary = new String[5000]; 
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "word" + i; 
+        }
+        String[] locations = new String[500]; 
+        for (int i = 0; i < locations.length; i++) {
+            locations[i] = "city" + i; 
+        }
+        String[] types = {"Internship", "Part-Time", "Full-Time", "Co-Op"}; 
+
+        SavedSearch[] searches = new SavedSearch[SEARCHES]; 
+        SavedSearchIndex index = new SavedSearchIndex(); 
+        long buildStart = System.nanoTime(); 
+        for (int i = 0; i < SEARCHES; i++) {
+            searches[i] = new SavedSearch((long) i, "user" + (i % 50_000), 
+                    random.nextInt(2) == 0 ? types[random.nextInt(types.length)] : null, 
+                    random.nextInt(2) == 0 ? locations[random.nextInt(locations.length)] : null, 
+                    random.nextInt(2) == 0 ? random.nextInt(10_000) : null, 
+                    random.nextInt(4) != 0 ? vocabulary[random.nextInt(vocabulary.length)] : null); 
+            index.add(searches[i]); 
+        }
+        long buildNanos = System.nanoTime() - buildStart; 
+
+        JobEntry[] jobs = new JobEntry[JOBS]; 
+        for (int i = 0; i < JOBS; i++) {
+            jobs[i] = new JobEntry(vocabulary[random.nextInt(vocabulary.length)] + " " + vocabulary[random.nextInt(vocabulary.length)], 
+                    vocabulary[random.nextInt(vocabulary.length)], LocalDate.of(2025, 8, 20), JobEntry.NO_CLOSE_DATE, 
+                    locations[random.nextInt(locations.length)], 4, types[random.nextInt(types.length)], 
+                    random.nextInt(10_000), "https://example.com", (long) i, "poster"); 
+        }
+
+        // warm up, then time the index 
+        long indexMatches = 0; 
+        for (int i = 0; i < JOBS; i++) {
+            indexMatches += index.match(jobs[i]).size(); 
+        }
+        indexMatches = 0; 
+        long indexStart = System.nanoTime(); 
+        for (int i = 0; i < JOBS; i++) {
+            indexMatches += index.match(jobs[i]).size(); 
+        }
+        long indexNanos = System.nanoTime() - indexStart; 
+
+        // full scan baseline on a sample, every search against every job entry 
+        int scanJobs = 200; 
+        long scanMatches = 0; 
+        long sampleIndexMatches = 0; 
+        long scanStart = System.nanoTime(); 
+        for (int i = 0; i < scanJobs; i++) {
+            var tokens = SavedSearchIndex.tokenize(jobs[i].jobName() + " " + jobs[i].companyName()); 
+            for (SavedSearch search : searches) {
+                if (SavedSearchIndex.matches(search, jobs[i], tokens)) {
+                    scanMatches++; 
+                }
+            }
+            sampleIndexMatches += index.match(jobs[i]).size(); 
+        }
+        long scanNanos = System.nanoTime() - scanStart; 
+
+        System.out.printf("saved searches: %,d (index built in %,d ms)%n", SEARCHES, buildNanos / 1_000_000); 
+        System.out.printf("index:     %,10.0f job entries/s, %,d matches%n", JOBS / (indexNanos / 1e9), indexMatches); 
+        System.out.printf("full scan: %,10.0f job entries/s%n", scanJobs / (scanNanos / 1e9)); 
+
+        assertThat(sampleIndexMatches).isEqualTo(scanMatches); 
+    }
+}
@@ -0,0 +1,76 @@
+package com.board.jobseeker;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SavedSearchIndexTests {
+
+    private static JobEntry job(String jobName, String companyName, String jobLocation, String jobType, int jobPay) {
+        return new JobEntry(jobName, companyName, LocalDate.of(2025, 8, 20), JobEntry.NO_CLOSE_DATE, 
+                            jobLocation, 4, jobType, jobPay, "https://example.com", 1L, "miles1"); 
+    }
+
+    // each kind of anchor (keyword, location, type, pay floor, no criteria) is found and verified (PASSING test)
+    @Test
+    void matchEachAnchorKind() {
+        SavedSearchIndex index = new SavedSearchIndex(); 
+        index.add(new SavedSearch(1L, "a", null, null, null, "firmware nvidia")); 
+        index.add(new SavedSearch(2L, "b", null, "santa clara", null, null)); 
+        index.add(new SavedSearch(3L, "c", "INTERNSHIP", null, 5000, null)); 
+        index.add(new SavedSearch(4L, "d", null, null, 3500, null)); 
+        index.add(new SavedSearch(5L, "e", null, null, null, null)); 
+        index.add(new SavedSearch(6L, "f", null, "Seattle", null, "firmware")); 
+
+        List<Long> matched = index.match(job("Firmware Testing", "Nvidia", "Santa Clara", "Internship", 4000))
+                .stream().map(SavedSearch::searchID).toList(); 
+
+        assertThat(matched).containsExactlyInAnyOrder(1L, 2L, 4L, 5L); 
+    }
+
+    // removed searches no longer match (PASSING test)
+    @Test
+    void removeSearch() {
+        SavedSearchIndex index = new SavedSearchIndex(); 
+        index.add(new SavedSearch(1L, "a", null, null, null, "firmware")); 
+        index.remove(1L); 
+
+        assertThat(index.size()).isZero(); 
+        assertThat(index.match(job("Firmware Testing", "Nvidia", "Santa Clara", "Internship", 4000))).isEmpty(); 
+    }
+
+    // indexed matching returns exactly what checking every search would (PASSING test)
+    @Test
+    void matchAgreesWithFullScan() {
+        String[] words = {"software", "firmware", "hardware", "testing", "engineering", "nvidia", "intel", "linkedin"}; 
+        String[] locations = {"Seattle", "Santa Clara", "Vancouver"}; 
+        String[] types = {"Internship", "Part-Time", "Full-Time"}; 
+        Random random = new Random(42); 
+
+        SavedSearchIndex index = new SavedSearchIndex(); 
+        List<SavedSearch> searches = new ArrayList<>(); 
+        for (long id = 0; id < 2000; id++) {
+            SavedSearch search = new SavedSearch(id, "user" + id, 
+                    random.nextInt(3) == 0 ? types[random.nextInt(types.length)] : null, 
+                    random.nextInt(3) == 0 ? locations[random.nextInt(locations.length)] : null, 
+                    random.nextInt(3) == 0 ? random.nextInt(6000) : null, 
+                    random.nextInt(2) == 0 ? words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] : null); 
+            searches.add(search); 
+            index.add(search); 
+        }
+
+        for (int i = 0; i < 200; i++) {
+            JobEntry job = job(words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)], 
+                    words[random.nextInt(words.length)], locations[random.nextInt(locations.length)], 
+                    types[random.nextInt(types.length)], random.nextInt(6000)); 
+            // scan() is also what SavedSearchAlerts uses until the index is rebuilt 
+            List<SavedSearch> expected = SavedSearchIndex.scan(searches, job); 
+            assertThat(index.match(job)).containsExactlyInAnyOrderElementsOf(expected); 
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.board.jobseeker;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import net.minidev.json.JSONArray;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	// three in-memory H2 shards; data.sql is skipped since its rows are not placed by owner 
+	// with three shards miles1 lives on shard 1 and job-searcher on shard 2 
+	properties = {
+		"jobseeker.shards.count=3",
+		"spring.sql.init.data-locations=optional:classpath:no-data.sql"
+	}
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ShardedStorageTests {
+	@Autowired 
+	private TestRestTemplate restTemplate; 
+
+	@Autowired
+	private JobEntryShards shards; 
+
+	@BeforeEach
+	void setUp() {
+		restTemplate.getRestTemplate().setRequestFactory(
+			new HttpComponentsClientHttpRequestFactory()
+		);
+	}
+
+	private URI post(String username, String password, String jobName, int jobPay) {
+		JobEntry newEntry = new JobEntry(jobName, "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", jobPay, "https://meta.com", null, null); 
+		ResponseEntity<Void> response = restTemplate.withBasicAuth(username, password).postForEntity("/jobseeker", newEntry, Void.class); 
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED); 
+		return response.getHeaders().getLocation(); 
+	}
+
+	// starts a separate application on the given database, e.g. a single database first and the same one as shard 0 later 
+	private static ConfigurableApplicationContext start(String databaseURL, String... properties) {
+		return new SpringApplicationBuilder(JobseekerApplication.class)
+				.properties("server.port=0", "spring.datasource.url=" + databaseURL)
+				.properties(properties)
+				.run(); 
+	}
+
+	private static TestRestTemplate client(ConfigurableApplicationContext context) {
+		return new TestRestTemplate(new RestTemplateBuilder().rootUri("http://localhost:" + context.getEnvironment().getProperty("local.server.port"))); 
+	}
+
+	private static List<Long> longs(JSONArray values) {
+		List<Long> result = new ArrayList<>(); 
+		for (Object value : values) {
+			result.add(((Number) value).longValue()); 
+		}
+		return result; 
+	}
+
+	/// Description : new job entries are stored on their owner's shard, and their jobID says which one 
+	/// Expect : jobID high bits equal the owner's shard, GET by location finds each entry 
+	@Test
+	void jobIDEncodesOwnerShard() {
+		URI milesEntry = post("miles1", "password123", "Marketing Intern", 1000); 
+		URI searcherEntry = post("job-searcher", "no-jobs-posted", "Sales Intern", 2000); 
+
+		for (URI location : List.of(milesEntry, searcherEntry)) {
+			ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity(location, String.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK); 
+
+			DocumentContext documentContext = JsonPath.parse(response.getBody()); 
+			long jobID = ((Number) documentContext.read("$.jobID")).longValue(); 
+			String owner = documentContext.read("$.owner"); 
+			assertThat(shards.shardOfJobID(jobID)).isEqualTo(shards.shardOfOwner(owner)); 
+		}
+		assertThat(shards.shardOfOwner("miles1")).isNotEqualTo(shards.shardOfOwner("job-searcher")); 
+	}
+
+	/// Description : listings gather every shard and merge them in the requested order, with paging over the merged result 
+	/// Expect : all entries sorted by jobPay descending, the second page continues where the first ended 
+	@Test
+	void listingMergesAllShards() {
+		post("miles1", "password123", "Marketing Intern", 1000); 
+		post("job-searcher", "no-jobs-posted", "Sales Intern", 4000); 
+		post("miles1", "password123", "Design Intern", 3000); 
+		post("job-searcher", "no-jobs-posted", "Support Intern", 2000); 
+
+		ResponseEntity<String> response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker?sort=jobPay,desc", String.class); 
+		JSONArray jobPays = JsonPath.parse(response.getBody()).read("$..jobPay"); 
+		assertThat(jobPays).containsExactly(4000, 3000, 2000, 1000); 
+
+		response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker?sort=jobPay,desc&page=1&size=3", String.class); 
+		jobPays = JsonPath.parse(response.getBody()).read("$..jobPay"); 
+		assertThat(jobPays).containsExactly(1000); 
+
+		// default order is ascending jobID, i.e. shard by shard 
+		response = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker", String.class); 
+		List<Long> jobIDs = longs(JsonPath.parse(response.getBody()).read("$..jobID")); 
+		assertThat(jobIDs).hasSize(4).isSorted(); 
+	}
+
+	/// Description : owner-scoped listing, updates, deletes and duplicate detection work against the owner's shard 
+	/// Expect : "/mine" only lists the owner's entries, PUT and DELETE succeed, a cross-shard duplicate is rejected 
+	@Test
+	void ownerScopedCallsUseOwnerShard() {
+		URI milesEntry = post("miles1", "password123", "Marketing Intern", 1000); 
+		post("job-searcher", "no-jobs-posted", "Sales Intern", 2000); 
+
+		ResponseEntity<String> mine = restTemplate.withBasicAuth("miles1", "password123").getForEntity("/jobseeker/mine", String.class); 
+		JSONArray jobNames = JsonPath.parse(mine.getBody()).read("$..jobName"); 
+		assertThat(jobNames).containsExactly("Marketing Intern"); 
+
+		JobEntry update = new JobEntry("Marketing Lead", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Full-Time", 1500, "https://meta.com", null, null); 
+		ResponseEntity<Void> put = restTemplate.withBasicAuth("miles1", "password123").exchange(milesEntry, HttpMethod.PUT, new HttpEntity<>(update), Void.class); 
+		assertThat(put.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+
+		// the ownership check runs on the shard holding the jobID, job-searcher is not the owner there 
+		ResponseEntity<Void> foreignDelete = restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").exchange(milesEntry, HttpMethod.DELETE, null, Void.class); 
+		assertThat(foreignDelete.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND); 
+
+		// same content posted by an owner on a different shard is still a duplicate 
+		JobEntry duplicate = new JobEntry("Sales Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 2000, "https://meta.com", null, null); 
+		ResponseEntity<Void> duplicatePost = restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", duplicate, Void.class); 
+		assertThat(duplicatePost.getStatusCode()).isEqualTo(HttpStatus.CONFLICT); 
+
+		ResponseEntity<Void> delete = restTemplate.withBasicAuth("miles1", "password123").exchange(milesEntry, HttpMethod.DELETE, null, Void.class); 
+		assertThat(delete.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+	}
+
+	/// Description : duplicate detection holds across shards for concurrent creates and for updates 
+	/// Expect : of two concurrent identical posts by owners on different shards exactly one is created, 
+	///          a PUT making a posting identical to one on another shard is "409 CONFLICT", deleting frees the content again 
+	@Test
+	void duplicatesRejectedAcrossShards() throws Exception {
+		JobEntry posting = new JobEntry("Data Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 1000, "https://meta.com/data", null, null); 
+		CompletableFuture<ResponseEntity<Void>> milesPost = CompletableFuture.supplyAsync(() -> 
+				restTemplate.withBasicAuth("miles1", "password123").postForEntity("/jobseeker", posting, Void.class)); 
+		CompletableFuture<ResponseEntity<Void>> searcherPost = CompletableFuture.supplyAsync(() -> 
+				restTemplate.withBasicAuth("job-searcher", "no-jobs-posted").postForEntity("/jobseeker", posting, Void.class)); 
+		List<HttpStatusCode> statuses = List.of(milesPost.get().getStatusCode(), searcherPost.get().getStatusCode()); 
+		assertThat(statuses).containsExactlyInAnyOrder(HttpStatus.CREATED, HttpStatus.CONFLICT); 
+
+		// whoever lost the race posts something else, then tries to turn it into the same posting 
+		boolean milesWon = milesPost.get().getStatusCode().equals(HttpStatus.CREATED); 
+		URI winner = (milesWon ? milesPost : searcherPost).get().getHeaders().getLocation(); 
+		URI other = milesWon ? post("job-searcher", "no-jobs-posted", "Sales Intern", 2000) : post("miles1", "password123", "Sales Intern", 2000); 
+		String otherUsername = milesWon ? "job-searcher" : "miles1"; 
+		String otherPassword = milesWon ? "no-jobs-posted" : "password123"; 
+		String winnerUsername = milesWon ? "miles1" : "job-searcher"; 
+		String winnerPassword = milesWon ? "password123" : "no-jobs-posted"; 
+
+		ResponseEntity<Void> put = restTemplate.withBasicAuth(otherUsername, otherPassword).exchange(other, HttpMethod.PUT, new HttpEntity<>(posting), Void.class); 
+		assertThat(put.getStatusCode()).isEqualTo(HttpStatus.CONFLICT); 
+
+		ResponseEntity<Void> delete = restTemplate.withBasicAuth(winnerUsername, winnerPassword).exchange(winner, HttpMethod.DELETE, null, Void.class); 
+		assertThat(delete.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+		put = restTemplate.withBasicAuth(otherUsername, otherPassword).exchange(other, HttpMethod.PUT, new HttpEntity<>(posting), Void.class); 
+		assertThat(put.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+	}
+
+	/// Description : an existing single database is promoted to shard 0 when sharding is enabled 
+	/// Expect : with seven shards miles1 is routed to shard 0, so its existing entry keeps its jobID and stays readable, 
+	///          listed in "/mine", updatable and deletable 
+	@Test
+	void existingDatabaseBecomesShardZero() {
+		String databaseURL = "jdbc:h2:mem:existing-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"; 
+		JobEntry newEntry = new JobEntry("Marketing Intern", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Internship", 1000, "https://meta.com", null, null); 
+
+		URI location; 
+		try (ConfigurableApplicationContext single = start(databaseURL, "spring.sql.init.data-locations=optional:classpath:no-data.sql")) {
+			ResponseEntity<Void> created = client(single).withBasicAuth("miles1", "password123").postForEntity("/jobseeker", newEntry, Void.class); 
+			assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED); 
+			location = created.getHeaders().getLocation(); 
+		}
+
+		try (ConfigurableApplicationContext sharded = start(databaseURL, "jobseeker.shards.count=7", "spring.sql.init.mode=never")) {
+			assertThat(sharded.getBean(JobEntryShards.class).shardOfOwner("miles1")).isZero(); 
+			TestRestTemplate milesClient = client(sharded).withBasicAuth("miles1", "password123"); 
+			URI shardedLocation = URI.create("http://localhost:" + sharded.getEnvironment().getProperty("local.server.port") + location.getPath()); 
+
+			ResponseEntity<String> response = milesClient.getForEntity(shardedLocation, String.class); 
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK); 
+			String jobName = JsonPath.parse(response.getBody()).read("$.jobName"); 
+			assertThat(jobName).isEqualTo("Marketing Intern"); 
+
+			ResponseEntity<String> mine = milesClient.getForEntity("/jobseeker/mine", String.class); 
+			JSONArray jobNames = JsonPath.parse(mine.getBody()).read("$..jobName"); 
+			assertThat(jobNames).containsExactly("Marketing Intern"); 
+
+			JobEntry update = new JobEntry("Marketing Lead", "Meta", LocalDate.of(2025, 1, 30), LocalDate.of(2025, 5, 30), "Texas", 4, "Full-Time", 1500, "https://meta.com", null, null); 
+			ResponseEntity<Void> put = milesClient.exchange(shardedLocation, HttpMethod.PUT, new HttpEntity<>(update), Void.class); 
+			assertThat(put.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+
+			ResponseEntity<Void> delete = milesClient.exchange(shardedLocation, HttpMethod.DELETE, null, Void.class); 
+			assertThat(delete.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT); 
+		}
+	}
+
+	/// Description : enabling sharding on a single database holding entries of owners routed to other shards 
+	/// Expect : startup fails naming those owners, instead of starting with their entries unreachable from "/mine" 
+	@Test
+	void refuseShardZeroWithOtherShardsOwners() {
+		String databaseURL = "jdbc:h2:mem:misplaced-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"; 
+		// data.sql stores entries of miles1, liam and peter2, with three shards none of them is routed to shard 0 
+		start(databaseURL).close(); 
+
+		assertThatThrownBy(() -> start(databaseURL, "jobseeker.shards.count=3", "spring.sql.init.mode=never"))
+				.rootCause()
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("miles1 (stored on shard 0, routed to shard 1)"); 
+	}
+}
@@ -0,0 +1,101 @@
+package com.board.jobseeker;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Write and read throughput of the storage settings used by the "durable" profile
+///     tagged "benchmark", so it is skipped by 'test' and run with './gradlew benchmark'
+///     every setting gets the same Flyway schema, a Hikari pool and autocommit inserts (one commit per job entry),
+///     the in-memory database is the baseline, WRITE_DELAY=0 writes on every commit, WRITE_DELAY=500 is the profile default
+///     results are printed as table rows for the README "Durable storage" section, they depend on the disk they were measured on
+@Tag("benchmark")
+class StorageDurabilityBenchmark {
+
+    private static final int INSERTS = 20_000;
+    private static final int READS = 100_000;
+
+    @Test
+    void compareWriteDelays(@TempDir Path dir) throws SQLException {
+        System.out.println("| storage | inserts/s | reads by id/s |");
+        System.out.println("|---|---|---|");
+        String options = ";QUERY_CACHE_SIZE=64;CACHE_SIZE=65536";
+
+        run("in-memory", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1" + options);
+        run("file, WRITE_DELAY=0", "jdbc:h2:file:" + dir.resolve("sync") + ";WRITE_DELAY=0" + options);
+        run("file, WRITE_DELAY=500", "jdbc:h2:file:" + dir.resolve("delayed") + ";WRITE_DELAY=500" + options);
+    }
+
+    private static void run(String name, String url) throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername("sa");
+        config.setMaximumPoolSize(4);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                for (String table : new String[] {"DICT_COMPANY", "DICT_LOCATION", "DICT_JOB_TYPE", "DICT_OWNER"}) {
+                    statement.execute("INSERT INTO " + table + " (ID, NAME) VALUES (1, 'benchmark')");
+                }
+            }
+
+            // one connection per statement, as the repositories do, so the pool and H2's statement cache are exercised
+            LocalDate postDate = LocalDate.of(2025, 1, 30);
+            LocalDate closeDate = LocalDate.of(2025, 5, 30);
+            long insertStart = System.nanoTime();
+            for (int i = 0; i < INSERTS; i++) {
+                try (Connection connection = dataSource.getConnection();
+                        PreparedStatement insert = connection.prepareStatement(
+                                "INSERT INTO JOB_ENTRY (JOB_NAME, COMPANY_ID, POST_DATE, CLOSE_DATE, JOB_LOCATION_ID, JOB_DURATION, "
+                                + "JOB_TYPE_ID, JOB_PAY, JOB_LINK, OWNER_ID, CONTENT_HASH) VALUES (?, 1, ?, ?, 1, 4, 1, ?, ?, 1, ?)")) {
+                    insert.setString(1, "Intern " + i);
+                    insert.setDate(2, Date.valueOf(postDate));
+                    insert.setDate(3, Date.valueOf(closeDate));
+                    insert.setInt(4, i);
+                    insert.setString(5, "https://example.com/" + i);
+                    insert.setBytes(6, JobEntryStore.fingerprint(new JobEntry("Intern " + i, "benchmark", postDate, closeDate, "benchmark", 4, "benchmark", i, "https://example.com/" + i, null, null)));
+                    insert.executeUpdate();
+                }
+            }
+            long insertNanos = System.nanoTime() - insertStart;
+
+            Random random = new Random(7);
+            long found = 0;
+            long readStart = System.nanoTime();
+            for (int i = 0; i < READS; i++) {
+                try (Connection connection = dataSource.getConnection();
+                        PreparedStatement select = connection.prepareStatement("SELECT JOB_NAME, JOB_PAY FROM JOB_ENTRY WHERE JOB_ID = ?")) {
+                    select.setLong(1, 1 + random.nextInt(INSERTS));
+                    try (ResultSet result = select.executeQuery()) {
+                        if (result.next()) {
+                            found++;
+                        }
+                    }
+                }
+            }
+            long readNanos = System.nanoTime() - readStart;
+
+            System.out.printf("| %s | %,.0f | %,.0f |%n",
+                    name, INSERTS / (insertNanos / 1e9), READS / (readNanos / 1e9));
+            assertThat(found).isEqualTo(READS);
+        }
+    }
+}
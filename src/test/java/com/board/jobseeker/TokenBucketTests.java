@@ -0,0 +1,54 @@
+package com.board.jobseeker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+    private static final long SECOND = 1_000_000_000L; 
+
+    // a full bucket allows a burst of 'capacity' requests, then reports the wait for the next token (PASSING test)
+    @Test
+    void burstThenWait() {
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0); 
+
+        assertThat(bucket.tryConsume(0)).isZero(); 
+        assertThat(bucket.tryConsume(0)).isZero(); 
+        assertThat(bucket.tryConsume(0)).isZero(); 
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND); 
+
+        // one token refills after a second, but only one 
+        assertThat(bucket.tryConsume(SECOND)).isZero(); 
+        assertThat(bucket.tryConsume(SECOND)).isPositive(); 
+    }
+
+    // a bucket left alone refills up to capacity, never beyond, and is then idle (PASSING test)
+    @Test
+    void refillIsCapped() {
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0); 
+        bucket.tryConsume(0); 
+        bucket.tryConsume(0); 
+
+        assertThat(bucket.isIdle(SECOND, SECOND)).isFalse(); 
+        assertThat(bucket.isIdle(60 * SECOND, SECOND)).isTrue(); 
+
+        long later = 60 * SECOND; 
+        assertThat(bucket.tryConsume(later)).isZero(); 
+        assertThat(bucket.tryConsume(later)).isZero(); 
+        assertThat(bucket.tryConsume(later)).isPositive(); 
+    }
+
+    // peeking reports the same wait as consuming would, but never takes a token (PASSING test)
+    @Test
+    void peekDoesNotConsume() {
+        TokenBucket bucket = new TokenBucket(1, 1.0, 0); 
+
+        assertThat(bucket.peek(0)).isZero(); 
+        assertThat(bucket.peek(0)).isZero(); 
+        assertThat(bucket.tryConsume(0)).isZero(); 
+
+        assertThat(bucket.peek(0)).isEqualTo(SECOND); 
+        assertThat(bucket.peek(SECOND)).isZero(); 
+    }
+}
@@ -1,15 +1,25 @@
+INSERT INTO DICT_COMPANY (NAME) VALUES ('LinkedIn'), ('Nvidia'), ('Intel');
+INSERT INTO DICT_LOCATION (NAME) VALUES ('Seattle'), ('Santa Clara'), ('Vancouver');
+INSERT INTO DICT_JOB_TYPE (NAME) VALUES ('Internship'), ('Part-Time');
+INSERT INTO DICT_OWNER (NAME) VALUES ('miles1'), ('liam'), ('peter2');
+
+-- CONTENT_HASH is JobEntryStore.fingerprint of each row: SHA-256 of "company\u001Fjob name\u001Flocation\u001Flink" (lower-cased, except the link)
 INSERT INTO JOB_ENTRY 
-    (JOB_ID, JOB_NAME, COMPANY_NAME, POST_DATE, CLOSE_DATE, 
-    JOB_LOCATION, JOB_DURATION, JOB_TYPE, JOB_PAY, JOB_LINK, OWNER) 
+    (JOB_ID, JOB_NAME, COMPANY_ID, POST_DATE, CLOSE_DATE, 
+    JOB_LOCATION_ID, JOB_DURATION, JOB_TYPE_ID, JOB_PAY, JOB_LINK, OWNER_ID, CONTENT_HASH) 
 VALUES 
-    (20, 'Software Engineering', 'LinkedIn','2025-08-20','2025-12-20',
-    'Seattle', 4, 'Internship', 3000, 'https://linkedin.com', 'miles1'),
+    (20, 'Software Engineering', (SELECT ID FROM DICT_COMPANY WHERE NAME = 'LinkedIn'), '2025-08-20','2025-12-20',
+    (SELECT ID FROM DICT_LOCATION WHERE NAME = 'Seattle'), 4, (SELECT ID FROM DICT_JOB_TYPE WHERE NAME = 'Internship'), 3000, 'https://linkedin.com', 
+    (SELECT ID FROM DICT_OWNER WHERE NAME = 'miles1'), 
+    X'82AA6478BDA48E03E12D7EE5F077EA16D768D11B54FCEDCD665F49A8C717F7F1'),
 
-    (21, 'Firmware Testing', 'Nvidia', '2025-09-30','2025-12-31',
-    'Santa Clara', 3, 'Internship', 4000, 'https://nvidia.careers.com', 'liam'),
+    (21, 'Firmware Testing', (SELECT ID FROM DICT_COMPANY WHERE NAME = 'Nvidia'), '2025-09-30','2025-12-31',
+    (SELECT ID FROM DICT_LOCATION WHERE NAME = 'Santa Clara'), 3, (SELECT ID FROM DICT_JOB_TYPE WHERE NAME = 'Internship'), 4000, 'https://nvidia.careers.com', 
+    (SELECT ID FROM DICT_OWNER WHERE NAME = 'liam'), 
+    X'B11C1DFABED7A8E9824A15E1624E47B276CC476D432050527F5766C2078A196F'),
 
-    (22, 'Hardware Testing', 'Intel', '2025-04-30', '2025-08-30',
-    'Vancouver', 4, 'Part-Time', 5000, 'https://intel.careers.com', 'peter2')
+    (22, 'Hardware Testing', (SELECT ID FROM DICT_COMPANY WHERE NAME = 'Intel'), '2025-04-30', '2025-08-30',
+    (SELECT ID FROM DICT_LOCATION WHERE NAME = 'Vancouver'), 4, (SELECT ID FROM DICT_JOB_TYPE WHERE NAME = 'Part-Time'), 5000, 'https://intel.careers.com', 
+    (SELECT ID FROM DICT_OWNER WHERE NAME = 'peter2'), 
+    X'602F71F31C9DA2CBE1974C70A2C34F846858BD733424F818D971727FF6A60B11')
     ;
-
-